@@ -129,6 +129,19 @@ public class Appointment implements Comparable<Appointment>{
         return false;
     }
 
+    /**
+     * Overrides the hashCode method to be consistent with equals,
+     * combining the date, timeslot, and patient.
+     *
+     * @return the hash code of the appointment
+     */
+    @Override
+    public int hashCode() {
+        int result = date == null ? 0 : date.hashCode();
+        result = 31 * result + (timeslot == null ? 0 : timeslot.hashCode());
+        return 31 * result + (patient == null ? 0 : patient.hashCode());
+    }
+
     /**
      * Overrides the toString method to provide a formatted string representation of the appointment.
      *
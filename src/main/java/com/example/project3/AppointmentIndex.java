@@ -0,0 +1,157 @@
+package com.example.project3;
+import java.util.HashMap;
+import java.util.Iterator;
+
+/**
+ * The AppointmentIndex class stores the booked appointments under their primary key,
+ * the epoch day, the slot and the patient's profile, so finding, adding and removing
+ * an appointment each cost one hash lookup.
+ * A removed appointment's place is filled by the last appointment (swap-remove),
+ * so nothing is shifted; the order of the appointments is therefore not kept.
+ * Profiles compare their names ignoring case, which normalizes the patient part of the key.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class AppointmentIndex implements Iterable<Appointment> {
+
+    private final List<Appointment> appointments = new List<>();
+    private final HashMap<Key, Integer> positions = new HashMap<>();
+
+    /**
+     * The primary key of an appointment; also used by ConcurrentAppointmentStore.
+     */
+    static final class Key {
+        private final int epochDay;
+        private final int slot;
+        private final Profile patient;
+
+        Key(Date date, Timeslot timeslot, Person patient) {
+            this.epochDay = date.toEpochDay();
+            int slotNumber = timeslot.getSlotNumber();
+            this.slot = slotNumber > 0 ? slotNumber : -1 - timeslot.hashCode(); // keep other times apart
+            this.patient = patient.getProfile();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return epochDay == other.epochDay && slot == other.slot && patient.equals(other.patient);
+        }
+
+        @Override
+        public int hashCode() {
+            return (epochDay * 31 + slot) * 31 + patient.hashCode();
+        }
+    }
+
+    /**
+     * Adds the appointment unless an appointment with the same key is stored.
+     * @param appt the appointment to add
+     * @return true if added, false if an equal appointment is already stored
+     */
+    public boolean add(Appointment appt) {
+        Key key = new Key(appt.getDate(), appt.getTimeslot(), appt.getProfile());
+        if (positions.putIfAbsent(key, appointments.size()) != null) {
+            return false;
+        }
+        appointments.add(appt);
+        return true;
+    }
+
+    /**
+     * Returns the stored appointment of the patient at the date and timeslot.
+     *
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     * @param patient the patient, or any Person with the patient's profile
+     * @return the stored appointment, or null if none is stored
+     */
+    public Appointment find(Date date, Timeslot timeslot, Person patient) {
+        Integer position = positions.get(new Key(date, timeslot, patient));
+        return position == null ? null : appointments.get(position);
+    }
+
+    /**
+     * Returns the stored appointment equal to appt.
+     * @param appt the appointment to find
+     * @return the stored appointment, or null if none is stored
+     */
+    public Appointment find(Appointment appt) {
+        return find(appt.getDate(), appt.getTimeslot(), appt.getProfile());
+    }
+
+    /**
+     * Checks if an appointment equal to appt is stored.
+     * @param appt the appointment to find
+     * @return true if found, false otherwise
+     */
+    public boolean contains(Appointment appt) {
+        return find(appt) != null;
+    }
+
+    /**
+     * Removes the stored appointment equal to appt, moving the last appointment into its place.
+     * @param appt the appointment to remove
+     * @return the removed appointment, or null if none is stored
+     */
+    public Appointment remove(Appointment appt) {
+        Integer position = positions.remove(new Key(appt.getDate(), appt.getTimeslot(), appt.getProfile()));
+        if (position == null) {
+            return null;
+        }
+        Appointment removed = appointments.get(position);
+        int last = appointments.size() - 1;
+        if (position != last) {
+            Appointment moved = appointments.get(last);
+            appointments.set(position, moved);
+            positions.put(new Key(moved.getDate(), moved.getTimeslot(), moved.getProfile()), position);
+        }
+        appointments.removeAt(last);
+        return removed;
+    }
+
+    /**
+     * Returns the appointment at a position; positions change when appointments are removed.
+     * @param index the position of the appointment
+     * @return the appointment
+     */
+    public Appointment get(int index) {
+        return appointments.get(index);
+    }
+
+    /**
+     * Getter method that returns the number of stored appointments.
+     * @return the number of appointments
+     */
+    public int size() {
+        return appointments.size();
+    }
+
+    /**
+     * Checks if no appointment is stored.
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return appointments.isEmpty();
+    }
+
+    /**
+     * Removes every appointment.
+     */
+    public void clear() {
+        appointments.setAll(new Appointment[0]);
+        positions.clear();
+    }
+
+    /**
+     * Returns an iterator over the stored appointments, in no particular order.
+     * @return the iterator
+     */
+    @Override
+    public Iterator<Appointment> iterator() {
+        return appointments.iterator();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.project3;
+
+/**
+ * The AppointmentStore interface is a store of appointments that several threads may
+ * book and remove at once, with no provider, imaging room or patient booked twice at a time.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public interface AppointmentStore extends Iterable<Appointment> {
+
+    /**
+     * Books an appointment with its provider. An Imaging appointment also books the room
+     * of its type at the technician's location.
+     *
+     * @param appt the appointment to book, with its provider set
+     * @return BOOKED, or DUPLICATE if the patient is booked at the time,
+     * PROVIDER_UNAVAILABLE if the provider is, or ROOM_UNAVAILABLE if the room is.
+     * @throws IllegalArgumentException if the appointment cannot be booked in this store.
+     */
+    SchedulingResult.Status book(Appointment appt);
+
+    /**
+     * Removes the appointment equal to appt, freeing its provider and room.
+     * @param appt the appointment to remove
+     * @return the removed appointment, or null if none is booked
+     */
+    Appointment remove(Appointment appt);
+
+    /**
+     * Returns the booked appointment of the patient at the date and timeslot.
+     *
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     * @param patient the patient, or any Person with the patient's profile
+     * @return the booked appointment, or null if none is booked
+     */
+    Appointment find(Date date, Timeslot timeslot, Person patient);
+
+    /**
+     * Checks if an appointment equal to appt is booked.
+     * @param appt the appointment to find
+     * @return true if found, false otherwise
+     */
+    boolean contains(Appointment appt);
+
+    /**
+     * Checks whether the provider has no appointment at the date and timeslot.
+     *
+     * @param provider the provider
+     * @param date the date
+     * @param timeslot the timeslot
+     * @return true if the provider is free, false otherwise
+     */
+    boolean isProviderFree(Provider provider, Date date, Timeslot timeslot);
+
+    /**
+     * Checks whether the room of the location has no appointment at the date and timeslot.
+     *
+     * @param location the location of the room
+     * @param room the type of the room
+     * @param date the date
+     * @param timeslot the timeslot
+     * @return true if the room is free, false otherwise
+     */
+    boolean isRoomFree(Location location, Radiology room, Date date, Timeslot timeslot);
+
+    /**
+     * Getter method that returns the number of booked appointments.
+     * @return the number of appointments
+     */
+    int size();
+
+    /**
+     * Checks if no appointment is booked.
+     * @return true if the store is empty, false otherwise
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+}
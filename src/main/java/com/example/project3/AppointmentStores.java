@@ -0,0 +1,51 @@
+package com.example.project3;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The AppointmentStores class holds the helper methods shared by the AppointmentStore
+ * implementations, so a fix to how a store claims or removes an appointment is made once.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+final class AppointmentStores {
+
+    private AppointmentStores() {
+    }
+
+    /**
+     * Removes the key's appointment if it is still the same object as stored.
+     * ConcurrentHashMap.remove(key, value) compares with equals, and appointments of the same
+     * patient, date and timeslot are equal even with another provider.
+     *
+     * @param appointments the booked appointments of a store, by primary key
+     * @param key the primary key of the appointment
+     * @param stored the appointment that was read under the key
+     * @return true if stored was removed, false if the key now holds another appointment or none
+     */
+    static boolean removeExactly(ConcurrentHashMap<AppointmentIndex.Key, Appointment> appointments,
+                                 AppointmentIndex.Key key, Appointment stored) {
+        boolean[] removed = new boolean[1];
+        appointments.computeIfPresent(key, (k, current) -> {
+            if (current != stored) {
+                return current;
+            }
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Returns the provider of an appointment.
+     *
+     * @param appt the appointment
+     * @return the provider of the appointment
+     * @throws IllegalArgumentException if the appointment has no provider.
+     */
+    static Provider providerOf(Appointment appt) {
+        if (!(appt.getProvider() instanceof Provider)) {
+            throw new IllegalArgumentException("Provider cannot be null.");
+        }
+        return (Provider) appt.getProvider();
+    }
+}
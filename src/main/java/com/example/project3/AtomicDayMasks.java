@@ -0,0 +1,109 @@
+package com.example.project3;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The AtomicDayMasks class holds, for a fixed number of resources (providers or rooms) and a
+ * window of consecutive days, a bitmask of the booked timeslots of each resource on each day,
+ * bit (slot number - 1) being set when that slot is booked.
+ * Each mask is one word of an AtomicLongArray, and a slot is booked or released with a
+ * compare-and-set on its bit, so threads share the masks without locks.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class AtomicDayMasks {
+
+    private final AtomicLongArray words;
+    private final int resources;
+    private final int firstDay;
+    private final int days;
+
+    /**
+     * Constructor that creates masks with nothing booked.
+     *
+     * @param resources the number of resources, numbered from 0
+     * @param firstDay the epoch day of the first day of the window
+     * @param days the number of days in the window
+     * @throws IllegalArgumentException if resources or days is negative, or the table is too large.
+     */
+    public AtomicDayMasks(int resources, int firstDay, int days) {
+        if (resources < 0 || days < 0 || (long) resources * days > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid size: " + resources + " resources x " + days + " days.");
+        }
+        this.words = new AtomicLongArray(resources * days);
+        this.resources = resources;
+        this.firstDay = firstDay;
+        this.days = days;
+    }
+
+    /**
+     * Returns the bitmask of the booked slots of a resource on a day.
+     *
+     * @param resource the resource
+     * @param epochDay the day
+     * @return the mask, 0 if nothing is booked
+     * @throws IllegalArgumentException if the resource or the day is outside the table.
+     */
+    public long get(int resource, int epochDay) {
+        return words.get(index(resource, epochDay));
+    }
+
+    /**
+     * Books the slots of bits for a resource on a day, unless one of them is booked already.
+     *
+     * @param resource the resource
+     * @param epochDay the day
+     * @param bits the slots to book
+     * @return true if the slots were booked, false if one was already booked
+     * @throws IllegalArgumentException if the resource or the day is outside the table.
+     */
+    public boolean trySet(int resource, int epochDay, long bits) {
+        int i = index(resource, epochDay);
+        while (true) {
+            long mask = words.get(i);
+            if ((mask & bits) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(i, mask, mask | bits)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases the slots of bits for a resource on a day.
+     *
+     * @param resource the resource
+     * @param epochDay the day
+     * @param bits the slots to release
+     * @return true if all the slots were booked, false otherwise
+     * @throws IllegalArgumentException if the resource or the day is outside the table.
+     */
+    public boolean clear(int resource, int epochDay, long bits) {
+        int i = index(resource, epochDay);
+        while (true) {
+            long mask = words.get(i);
+            if (words.compareAndSet(i, mask, mask & ~bits)) {
+                return (mask & bits) == bits;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a day is inside the window.
+     * @param epochDay the day
+     * @return true if the table holds the day, false otherwise
+     */
+    public boolean holds(int epochDay) {
+        return epochDay - firstDay >= 0 && epochDay - firstDay < days;
+    }
+
+    /**
+     * Helper method: returns the word of a resource on a day.
+     */
+    private int index(int resource, int epochDay) {
+        if (resource < 0 || resource >= resources || !holds(epochDay)) {
+            throw new IllegalArgumentException("No mask for resource " + resource + " on day " + epochDay + ".");
+        }
+        return resource * days + (epochDay - firstDay);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.project3;
+import java.util.HashMap;
+
+/**
+ * The AvailabilityIndex class keeps, for every provider, a bitmask of the booked
+ * timeslots of each day, so checking whether a provider is free is one bit test
+ * instead of a scan over all appointments.
+ * Providers are found by a ProviderKey: a Technician by its profile, a Doctor by its profile,
+ * location, specialty and NPI, so a Technician never shares a Doctor's timeslots and two
+ * Doctors with the same profile keep their own.
+ * The index must be told about every appointment that is booked or removed.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class AvailabilityIndex {
+
+    private final HashMap<ProviderKey, DayMasks> schedules = new HashMap<>();
+
+    /**
+     * Returns the bit of a timeslot in a day's mask.
+     *
+     * @param timeslot the timeslot
+     * @return 1 shifted left by the slot number - 1
+     * @throws IllegalArgumentException if the timeslot is not one of the 12 slots
+     */
+    public static int slotBit(Timeslot timeslot) {
+        int slot = timeslot.getSlotNumber();
+        if (slot < 1) {
+            throw new IllegalArgumentException(timeslot.toTimeFormat() + " is not a valid time slot.");
+        }
+        return 1 << (slot - 1);
+    }
+
+    /**
+     * Checks whether the provider has no appointment at the date and timeslot.
+     *
+     * @param provider the provider to check
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     * @return true if the provider is free, false otherwise
+     */
+    public boolean isFree(Person provider, Date date, Timeslot timeslot) {
+        return (getMask(provider, date) & slotBit(timeslot)) == 0;
+    }
+
+    /**
+     * Returns the booked timeslots of the provider on the date.
+     *
+     * @param provider the provider
+     * @param date the date
+     * @return the mask of booked slots, bit (slot number - 1) set for each booked slot
+     */
+    public int getMask(Person provider, Date date) {
+        DayMasks days = schedules.get(new ProviderKey(provider));
+        return days == null ? 0 : days.get(date.toEpochDay());
+    }
+
+    /**
+     * Marks the provider as booked at the date and timeslot.
+     *
+     * @param provider the provider of the appointment
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     * @return true if the provider was free, false if already booked at that time
+     */
+    public boolean book(Person provider, Date date, Timeslot timeslot) {
+        int bit = slotBit(timeslot);
+        ProviderKey key = new ProviderKey(provider);
+        DayMasks days = schedules.get(key);
+        if (days == null) {
+            days = new DayMasks();
+            schedules.put(key, days);
+        }
+        return (days.set(date.toEpochDay(), bit) & bit) == 0;
+    }
+
+    /**
+     * Marks the provider as free at the date and timeslot.
+     *
+     * @param provider the provider of the appointment
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     * @return true if the provider was booked, false if already free at that time
+     */
+    public boolean release(Person provider, Date date, Timeslot timeslot) {
+        int bit = slotBit(timeslot);
+        DayMasks days = schedules.get(new ProviderKey(provider));
+        return days != null && (days.clear(date.toEpochDay(), bit) & bit) != 0;
+    }
+
+    /**
+     * Removes every booking from the index.
+     */
+    public void clear() {
+        schedules.clear();
+    }
+}
@@ -0,0 +1,408 @@
+package com.example.project3;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * The BatchProcessor class runs a command file through a SchedulingService without the window.
+ * The file is streamed in batches of lines; each command gets the same validation and conflict
+ * checks as the Home tab, and its message is written as one line of the output.
+ * Blank lines are skipped. The number of commands and the throughput are kept for reporting.
+ * <p>
+ * With several workers the file goes through a pipeline: a reader thread feeds batches to
+ * worker threads that parse the lines and validate the dates, which do not depend on the
+ * booked appointments, and the calling thread checks conflicts and commits the batches in
+ * input order. The queues between the stages are bounded, and so is the number of batches
+ * in flight, so memory stays flat however large the file. The results are the same as
+ * running the commands one after another.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class BatchProcessor {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int BATCHES_PER_WORKER = 4; // batches in flight for each worker
+
+    private final SchedulingService service;
+    private int batchLines = 1024;
+    private int commandCount;
+    private int successCount;
+    private int invalidCount;
+    private long elapsedNanos;
+
+    /**
+     * A batch of consecutive lines, with the commands and messages prepared for each line.
+     * A batch without lines marks the end of the input; its sequence is the number of batches.
+     */
+    private static final class Batch {
+        private final long sequence;
+        private final String[] lines;
+        private final int size;
+        private SchedulingCommand[] commands;
+        private String[] messages;
+        private int commandCount;
+        private int invalidCount;
+
+        private Batch(long sequence, String[] lines, int size) {
+            this.sequence = sequence;
+            this.lines = lines;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Constructor that creates a processor for the service's providers and appointments.
+     * @param service the service carrying out the commands
+     */
+    public BatchProcessor(SchedulingService service) {
+        this.service = service;
+    }
+
+    /**
+     * Runs the commands of a file and writes the results to another file.
+     *
+     * @param commands the command file
+     * @param results the file to write the results to
+     * @throws IOException if a file cannot be read or written.
+     */
+    public void process(File commands, File results) throws IOException {
+        process(commands, results, 1);
+    }
+
+    /**
+     * Runs the commands of a file with a pipeline of worker threads and writes the results to another file.
+     *
+     * @param commands the command file
+     * @param results the file to write the results to
+     * @param workers the number of threads parsing and validating lines; 1 runs everything on this thread
+     * @throws IOException if a file cannot be read or written.
+     */
+    public void process(File commands, File results, int workers) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(commands.toPath(), StandardCharsets.UTF_8);
+             BufferedWriter out = Files.newBufferedWriter(results.toPath(), StandardCharsets.UTF_8)) {
+            process(in, out, workers);
+        }
+    }
+
+    /**
+     * Runs the commands read from in and writes the results to out, one line per command.
+     * The streams are not closed.
+     *
+     * @param in the command lines
+     * @param out the destination of the results
+     * @throws IOException if reading or writing fails.
+     */
+    public void process(Reader in, Writer out) throws IOException {
+        process(in, out, 1);
+    }
+
+    /**
+     * Runs the commands read from in with a pipeline of worker threads and writes the results to out,
+     * one line per command, in input order. The streams are not closed.
+     *
+     * @param in the command lines
+     * @param out the destination of the results
+     * @param workers the number of threads parsing and validating lines; 1 runs everything on this thread
+     * @throws IOException if reading or writing fails.
+     */
+    public void process(Reader in, Writer out, int workers) throws IOException {
+        long start = System.nanoTime();
+        CommandParser parser = new CommandParser(service.getProviders());
+        BufferedReader reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in, BUFFER_SIZE);
+        BufferedWriter writer = new BufferedWriter(out, BUFFER_SIZE);
+        try {
+            if (workers <= 1) {
+                Batch batch;
+                for (long sequence = 0; (batch = readBatch(reader, sequence)) != null; sequence++) {
+                    prepare(batch, parser);
+                    commit(batch, writer);
+                }
+            } else {
+                runPipeline(reader, writer, parser, workers);
+            }
+            writer.flush();
+        } finally {
+            elapsedNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Helper method: runs the reader and worker stages on their own threads and
+     * commits the prepared batches on this thread, in input order.
+     */
+    private void runPipeline(BufferedReader reader, BufferedWriter writer, CommandParser parser, int workers)
+            throws IOException {
+        BlockingQueue<Batch> read = new ArrayBlockingQueue<>(workers * 2);
+        BlockingQueue<Batch> prepared = new ArrayBlockingQueue<>(workers * 2);
+        Semaphore inFlight = new Semaphore(workers * BATCHES_PER_WORKER);
+        ExecutorService stages = Executors.newFixedThreadPool(workers + 1, task -> {
+            Thread thread = new Thread(task, "batch-stage");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<?>[] workerResults = new Future<?>[workers];
+        Future<?> readerResult = stages.submit(() -> {
+            readAll(reader, read, inFlight, workers);
+            return null;
+        });
+        for (int i = 0; i < workers; i++) {
+            workerResults[i] = stages.submit(() -> {
+                prepareAll(read, prepared, parser);
+                return null;
+            });
+        }
+        try {
+            HashMap<Long, Batch> pending = new HashMap<>(); // prepared out of order
+            long next = 0;
+            long total = Long.MAX_VALUE;
+            while (next < total) {
+                Batch batch = prepared.take();
+                if (batch.lines == null) {
+                    total = Math.min(total, batch.sequence); // a failed worker sends -1
+                    continue;
+                }
+                pending.put(batch.sequence, batch);
+                for (Batch ready; (ready = pending.remove(next)) != null; next++) {
+                    commit(ready, writer);
+                    inFlight.release();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Batch processing was interrupted.");
+        } finally {
+            stages.shutdownNow();
+        }
+        for (Future<?> result : workerResults) {
+            rethrow(result);
+        }
+        rethrow(readerResult);
+    }
+
+    /**
+     * Helper method: the reader stage; reads batches until the end of the input,
+     * then sends one end marker to each worker.
+     */
+    private void readAll(BufferedReader reader, BlockingQueue<Batch> read, Semaphore inFlight, int workers)
+            throws IOException, InterruptedException {
+        long sequence = 0;
+        try {
+            Batch batch;
+            while ((batch = readBatch(reader, sequence)) != null) {
+                inFlight.acquire();
+                read.put(batch);
+                sequence++;
+            }
+        } finally {
+            for (int i = 0; i < workers; i++) {
+                read.put(new Batch(sequence, null, 0));
+            }
+        }
+    }
+
+    /**
+     * Helper method: the worker stage; prepares batches until its end marker, then passes the marker on.
+     * A worker that fails sends an end marker of -1, which stops the pipeline.
+     */
+    private void prepareAll(BlockingQueue<Batch> read, BlockingQueue<Batch> prepared, CommandParser parser)
+            throws InterruptedException {
+        Batch end = new Batch(-1, null, 0);
+        try {
+            Batch batch;
+            while ((batch = read.take()).lines != null) {
+                prepare(batch, parser);
+                prepared.put(batch);
+            }
+            end = batch;
+        } finally {
+            prepared.put(end);
+        }
+    }
+
+    /**
+     * Helper method: rethrows the failure of a finished stage.
+     */
+    private static void rethrow(Future<?> result) throws IOException {
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            // a stage interrupted by the shutdown; the stage that failed is reported first
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Batch processing was interrupted.");
+        }
+    }
+
+    /**
+     * Helper method: reads up to batchLines lines.
+     * @return the batch, or null at the end of the input
+     */
+    private Batch readBatch(BufferedReader reader, long sequence) throws IOException {
+        String[] lines = new String[batchLines];
+        int size = 0;
+        String line;
+        while (size < lines.length && (line = reader.readLine()) != null) {
+            lines[size++] = line;
+        }
+        return size == 0 ? null : new Batch(sequence, lines, size);
+    }
+
+    /**
+     * Helper method: parses the lines of a batch and validates the dates of the commands.
+     * Does not look at the booked appointments, so batches may be prepared on any thread.
+     */
+    private void prepare(Batch batch, CommandParser parser) {
+        batch.commands = new SchedulingCommand[batch.size];
+        batch.messages = new String[batch.size];
+        for (int i = 0; i < batch.size; i++) {
+            String line = batch.lines[i];
+            if (line.isBlank()) {
+                continue;
+            }
+            batch.commandCount++;
+            try {
+                SchedulingCommand command = parser.parse(line);
+                SchedulingResult invalid = service.validate(command);
+                if (invalid == null) {
+                    batch.commands[i] = command;
+                } else {
+                    batch.messages[i] = invalid.getMessage();
+                }
+            } catch (IllegalArgumentException e) {
+                batch.invalidCount++;
+                batch.messages[i] = e.getMessage();
+            }
+        }
+    }
+
+    /**
+     * Helper method: commits the valid commands of a prepared batch and writes every message, in line order.
+     */
+    private void commit(Batch batch, BufferedWriter writer) throws IOException {
+        commandCount += batch.commandCount;
+        invalidCount += batch.invalidCount;
+        for (int i = 0; i < batch.size; i++) {
+            String message = batch.messages[i];
+            if (batch.commands[i] != null) {
+                SchedulingResult result = service.commit(batch.commands[i]);
+                if (result.isSuccess()) {
+                    successCount++;
+                }
+                message = result.getMessage();
+            }
+            if (message != null) {
+                writer.write(message);
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of lines read and prepared together.
+     * @return the lines per batch
+     */
+    public int getBatchLines() {
+        return batchLines;
+    }
+
+    /**
+     * Sets the number of lines read and prepared together.
+     * @param batchLines the lines per batch
+     * @throws IllegalArgumentException if batchLines is less than 1.
+     */
+    public void setBatchLines(int batchLines) {
+        if (batchLines < 1) {
+            throw new IllegalArgumentException("A batch must hold at least one line.");
+        }
+        this.batchLines = batchLines;
+    }
+
+    /**
+     * Returns the number of commands read.
+     * @return the number of commands
+     */
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Returns the number of commands that booked, rescheduled or canceled an appointment.
+     * @return the number of successful commands
+     */
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    /**
+     * Returns the number of lines that were not valid commands.
+     * @return the number of invalid lines
+     */
+    public int getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Returns the time spent processing, in milliseconds.
+     * @return the elapsed time in milliseconds
+     */
+    public double getElapsedMillis() {
+        return elapsedNanos / 1e6;
+    }
+
+    /**
+     * Returns the processing throughput.
+     * @return the number of commands processed per second
+     */
+    public double getCommandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : commandCount * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Runs a command file in batch mode and prints the throughput.
+     * Usage: BatchProcessor providersFile commandsFile resultsFile [workers]
+     *
+     * @param args the providers file, the command file, the results file and the number of workers
+     * @throws IOException if a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3 && args.length != 4) {
+            System.out.println("Usage: BatchProcessor providersFile commandsFile resultsFile [workers]");
+            return;
+        }
+        ProviderLoader loader = new ProviderLoader();
+        loader.load(new File(args[0]));
+        SchedulingService service = new SchedulingService();
+        service.addProviders(loader);
+
+        int workers = args.length == 4 ? Integer.parseInt(args[3]) : 1;
+        BatchProcessor processor = new BatchProcessor(service);
+        processor.process(new File(args[1]), new File(args[2]), workers);
+        System.out.printf("Processed %d commands in %.1f ms (%.0f commands/sec), %d booked/changed, %d invalid.%n",
+                processor.getCommandCount(), processor.getElapsedMillis(), processor.getCommandsPerSecond(),
+                processor.getSuccessCount(), processor.getInvalidCount());
+    }
+}
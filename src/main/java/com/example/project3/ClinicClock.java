@@ -0,0 +1,134 @@
+package com.example.project3;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * The ClinicClock class tells the scheduler which day it is today.
+ * Today's epoch day and the epoch day six months from today are computed once per day
+ * and cached, so date checks only compare ints; the cache is refreshed the first time
+ * the clock is read on a new day.
+ * The clock can be fixed or offset, so batch imports, tests and benchmarks do not
+ * depend on the real date.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class ClinicClock {
+
+    private static final int SIX_MONTHS = 6;
+
+    private static volatile ClinicClock defaultClock = system();
+
+    private final Clock clock;
+    private volatile Day day;
+
+    /**
+     * The cached bounds of one day, replaced as a whole when the day changes.
+     */
+    private static final class Day {
+        private final int today;
+        private final int sixMonthsFromToday;
+        private final long startMillis;
+        private final long endMillis;
+
+        private Day(int today, int sixMonthsFromToday, long startMillis, long endMillis) {
+            this.today = today;
+            this.sixMonthsFromToday = sixMonthsFromToday;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+    }
+
+    /**
+     * Constructor that reads the date from a java.time Clock.
+     * @param clock the clock, whose zone decides when a day starts
+     */
+    public ClinicClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a clock that follows the system clock in the default time zone.
+     * @return the system clock
+     */
+    public static ClinicClock system() {
+        return new ClinicClock(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Returns a clock that is always at the start of the given day, in the default time zone.
+     * @param today the date that is always today
+     * @return the fixed clock
+     */
+    public static ClinicClock fixed(Date today) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate date = LocalDate.ofEpochDay(today.toEpochDay());
+        return new ClinicClock(Clock.fixed(date.atStartOfDay(zone).toInstant(), zone));
+    }
+
+    /**
+     * Returns a clock that runs with the system clock, shifted by the offset.
+     * @param offset the time to add to the system clock
+     * @return the offset clock
+     */
+    public static ClinicClock offset(Duration offset) {
+        return new ClinicClock(Clock.offset(Clock.systemDefaultZone(), offset));
+    }
+
+    /**
+     * Returns the clock used by Date to find today.
+     * @return the default clock
+     */
+    public static ClinicClock getDefault() {
+        return defaultClock;
+    }
+
+    /**
+     * Sets the clock used by Date to find today.
+     * @param clock the new default clock
+     * @throws IllegalArgumentException if the clock is null
+     */
+    public static void setDefault(ClinicClock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("The default clock must not be null.");
+        }
+        defaultClock = clock;
+    }
+
+    /**
+     * Returns today's epoch day.
+     * @return the number of days from January 1st, 1970 to today
+     */
+    public int today() {
+        return currentDay().today;
+    }
+
+    /**
+     * Returns the epoch day six months from today.
+     * Like Calendar.add, the day of the month is cut to the length of the target month.
+     * @return the number of days from January 1st, 1970 to six months from today
+     */
+    public int sixMonthsFromToday() {
+        return currentDay().sixMonthsFromToday;
+    }
+
+    /**
+     * Helper method: returns the cached day, computing it again if the clock has left it.
+     */
+    private Day currentDay() {
+        long now = clock.millis();
+        Day cached = day;
+        if (cached != null && now >= cached.startMillis && now < cached.endMillis) {
+            return cached;
+        }
+        ZoneId zone = clock.getZone();
+        LocalDate today = LocalDate.ofInstant(Instant.ofEpochMilli(now), zone);
+        cached = new Day((int) today.toEpochDay(), (int) today.plusMonths(SIX_MONTHS).toEpochDay(),
+                today.atStartOfDay(zone).toInstant().toEpochMilli(),
+                today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+        day = cached;
+        return cached;
+    }
+}
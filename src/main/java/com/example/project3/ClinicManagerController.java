@@ -2,17 +2,19 @@ package com.example.project3;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.control.DatePicker;
+import javafx.scene.layout.Region;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import javafx.util.StringConverter;
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.text.DecimalFormat;
+import java.time.LocalDate;
 import java.util.Arrays;
-import java.util.Scanner;
 
 /**
  * This is a controller class for managing clinic appointments and billing operations.
@@ -34,17 +36,17 @@ public class ClinicManagerController {
     @FXML private RadioButton rb_officeVisit, rb_imagingVisit;
     @FXML private ComboBox<Radiology> cmb_roomType;
     @FXML private ComboBox<Provider> cmb_providers;
-    @FXML private Button bt_loadProviders, bt_submitAction;
+    @FXML private Button bt_loadProviders, bt_submitAction, bt_cancelLoad;
+    @FXML private ProgressBar pb_loadProviders;
     @FXML private TextArea ta_output; // TextArea for output display
     @FXML private TextField tf_firstName, tf_lastName;
     @FXML private Label lb_rescheduleTimeslot;
 
 
-    // instance variable for managing providers, technicians, and appointments
-    private static final List<Provider> providerList = new List<>();
-    private static List<Technician> techRotationList = new List<>();
-    private static final List<Appointment> allAppointments = new List<>();
-    private int rotationIndex = 0; // keep track of last assigned technician index
+    // providers, technician rotation and appointments of the clinic, and the scheduling rules;
+    // shared by every window, so all of them book into the same store and show the same appointments
+    private static final SchedulingService service = new SchedulingService();
+    private static final int TABLE_PAGE_SIZE = 50; // rows of the appointments table shown on one page
 
     // Appointment tab components
     @FXML private ToggleGroup appointmentTypeGroup;
@@ -53,6 +55,7 @@ public class ClinicManagerController {
     @FXML private ChoiceBox<String> cb_sortBy;
     @FXML private TableView tbl_appointments;
     @FXML private TableColumn<Appointment, String> col_apptDate, col_timeslot, col_patient, col_provider;
+    @FXML private Pagination pg_appointments;
 
     // Billing tab components
     @FXML private ChoiceBox<String> cb_statements;
@@ -83,15 +86,8 @@ public class ClinicManagerController {
         rb_cancelAction.setDisable(true);
 
         // Home tab: Load providers to list and display doctors to ComboBox upon button click
-        bt_loadProviders.setOnAction(event -> {
-            loadProviders();
-            loadDoctors();
-            bt_loadProviders.setDisable(true);// Disable the load button after providers are loaded
-            //Enable action buttons and submit button
-            rb_scheduleAction.setDisable(false);
-            rb_rescheduleAction.setDisable(false);
-            rb_cancelAction.setDisable(false);
-        });
+        // The providers are loaded in the background; the doctors and action buttons are set when it succeeds
+        bt_loadProviders.setOnAction(event -> loadProviders());
 
         // Home tab: Set timeslot to Combobox
         loadTimeslots();
@@ -137,7 +133,7 @@ public class ClinicManagerController {
         tbl_appointments.getItems().clear();
 
         // Appointment tab: populate TableView
-        populateTableView();
+        populateTableView(service.getAppointmentsByDate());
 
 
         // Appointments tab: Populate sort options
@@ -191,6 +187,7 @@ public class ClinicManagerController {
         cb_sortBy.setDisable(true);
         tbl_appointments.getSelectionModel().clearSelection();
         tbl_appointments.getItems().clear();
+        pg_appointments.setVisible(false);
     }
 
     /**
@@ -216,64 +213,31 @@ public class ClinicManagerController {
     }
 
     /**
-     * Helper method: set up the techRotationList in the right order.
-     */
-    private void setTechRotation() {
-
-        // Technicians Rotation are in reverse order of added LIFO
-        List<Technician> reversedList= new List<>();
-        for (int i = techRotationList.size() - 1; i >= 0; i--) {
-            reversedList.add(techRotationList.get(i));
-        }
-        // Assign the reverseList back to Rotation List
-        techRotationList = reversedList;
-    }
-
-    /**
-     * Helper method: display techRotationList.
+     * Helper method: returns the text that shows techRotationList.
+     *
+     * @param techRotationList the technicians in rotation order
+     * @return the rotation list of the technicians
      */
-    private void displayTechRotation() {
-        String rotationList = "\nRotation list for the technicians:\n";
+    private static String techRotationText(List<Technician> techRotationList) {
+        StringBuilder rotationList = new StringBuilder("\nRotation list for the technicians:\n");
         for (int i = 0; i < techRotationList.size(); i++) {
             Technician tech = techRotationList.get(i);
 
-            rotationList += tech.getProfile().getFirstName() + " "
-                    + tech.getProfile().getLastName() + " ("
-                    + tech.getLocation().name() + ")";
+            rotationList.append(tech.getProfile().getFirstName()).append(" ")
+                    .append(tech.getProfile().getLastName()).append(" (")
+                    .append(tech.getLocation().name()).append(")");
             if ( i < techRotationList.size() - 1) {
-                rotationList += " --> ";
-            }
-        }
-        ta_output.appendText(rotationList);
-    }
-
-    /**
-     * Helper method: Parse tokens to create and add providers to list.
-     *
-     * @param tokens an array of strings where each element represents a data token for creating providers.
-     *
-     */
-    private void parseProviders(String[] tokens) {
-        Profile profile = new Profile(tokens[1], tokens[2], new Date(tokens[3]));
-        Location location = Location.valueOf(tokens[4]);
-
-        if (tokens[0].equals("D")) {
-            Doctor doctor = new Doctor(profile, location, Specialty.valueOf(tokens[5].toUpperCase()), tokens[6]);
-            if(!providerList.contains(doctor)) {
-                providerList.add(doctor);
-            }
-        } else if (tokens[0].equals("T")) {
-            Technician technician = new Technician(profile, location, Integer.parseInt(tokens[5]));
-            if(!providerList.contains(technician )){
-                providerList.add(technician);
-                techRotationList.add(technician);
+                rotationList.append(" --> ");
             }
         }
-        Sort.provider(providerList);
+        return rotationList.toString();
     }
 
     /**
-     * An event handler to populate providers to list and enables the action buttons
+     * An event handler to populate providers to list and enables the action buttons.
+     * The file is loaded, merged with the current providers and sorted by a background task,
+     * with a progress bar and a cancel button, and the results are published to the window
+     * in one update when the task succeeds.
      */
     @FXML
     public void loadProviders() {
@@ -286,27 +250,94 @@ public class ClinicManagerController {
         ta_output.clear(); // Clear the output area before appending new content
 
         if (file != null) {
-            try (Scanner scanner = new Scanner(file)) {
-                while (scanner.hasNextLine()) {
-                    String line = scanner.nextLine().trim();
-                    if (line.isEmpty()) continue;
-                    parseProviders(line.split("\\s+"));
+            ProviderLoader loader = new ProviderLoader();
+            Task<ProviderRoster> task = new Task<>() {
+                @Override
+                protected ProviderRoster call() throws IOException {
+                    loader.setProgressListener(this::updateProgress);
+                    loader.load(file);
+                    ProviderRoster roster = service.mergeProviders(loader);
+                    updateMessage(loadedProvidersText(loader, roster)); // delivered before onSucceeded
+                    return roster;
                 }
-            } catch (FileNotFoundException e) {
+            };
+            task.setOnSucceeded(event -> {
+                publishLoadedProviders(task.getValue(), task.getMessage());
+                endProviderLoad();
+                bt_loadProviders.setDisable(true);// Disable the load button after providers are loaded
+                //Enable action buttons and submit button
+                rb_scheduleAction.setDisable(false);
+                rb_rescheduleAction.setDisable(false);
+                rb_cancelAction.setDisable(false);
+            });
+            task.setOnFailed(event -> {
+                endProviderLoad();
                 showAlert("No file loaded.") ;
-            }
-
-            // Display providers
-            ta_output.appendText("Provider loaded to the list.\n");
-            for ( Provider provider: providerList){
-                ta_output.appendText(provider.toString() +"\n");
-            }
-            setTechRotation();
-            displayTechRotation();
+            });
+            task.setOnCancelled(event -> {
+                endProviderLoad();
+                ta_output.setText("Loading providers was cancelled.");
+            });
+            bt_cancelLoad.setOnAction(event -> {
+                loader.cancel();
+                task.cancel();
+            });
+
+            bt_loadProviders.setDisable(true);
+            pb_loadProviders.progressProperty().bind(task.progressProperty());
+            pb_loadProviders.setVisible(true);
+            bt_cancelLoad.setVisible(true);
+            Thread thread = new Thread(task, "provider-loader");
+            thread.setDaemon(true);
+            thread.start();
         }
 
     }
 
+    /**
+     * Helper method: hides the progress bar and cancel button and enables the load button.
+     */
+    private void endProviderLoad() {
+        pb_loadProviders.progressProperty().unbind();
+        pb_loadProviders.setVisible(false);
+        bt_cancelLoad.setVisible(false);
+        bt_loadProviders.setDisable(false);
+    }
+
+    /**
+     * Helper method: sets the merged providers on the service, then shows the text of the
+     * loaded providers with one update of the output area, and the doctors with one update
+     * of the ComboBox.
+     *
+     * @param roster the providers merged by the loading task
+     * @param output the text of the providers, the technician rotation and the load statistics
+     */
+    private void publishLoadedProviders(ProviderRoster roster, String output) {
+        service.setProviders(roster);
+        ta_output.setText(output);
+        loadDoctors();
+    }
+
+    /**
+     * Helper method: returns the text that shows the providers, the technician rotation
+     * and the load statistics of a merged roster.
+     *
+     * @param loader the loader holding the loaded providers
+     * @param roster the merged providers
+     * @return the text for the output area
+     */
+    private static String loadedProvidersText(ProviderLoader loader, ProviderRoster roster) {
+        StringBuilder output = new StringBuilder("Provider loaded to the list.\n");
+        for ( Provider provider: roster.getProviders()){
+            output.append(provider).append('\n');
+        }
+        output.append(techRotationText(roster.getTechRotationList()));
+        output.append(String.format("\nLoaded %d lines in %.1f ms (%.0f lines/sec), %d skipped.",
+                loader.getLineCount(), loader.getElapsedMillis(), loader.getLinesPerSecond(),
+                loader.getSkippedLines()));
+        return output.toString();
+    }
+
     /**
      * Helper method: configures the ComboBox to display only
      * the NPI, first name, and last name of each Doctor.
@@ -339,8 +370,8 @@ public class ClinicManagerController {
         // Create an ObservableList to hold doctor names (first name and last name)
         ObservableList<Provider> doctorList = FXCollections.observableArrayList();
 
-        // Loop through the providerList and add only Doctor names to the doctorNames list
-        for (Provider provider : providerList) {
+        // Loop through the providers and add only Doctor names to the doctorNames list
+        for (Provider provider : service.getProviders()) {
             if (provider instanceof Doctor) {
                 Doctor doctor = (Doctor) provider;
                 doctorList.add(provider);
@@ -393,10 +424,8 @@ public class ClinicManagerController {
         // List to hold Timeslot objects
         ObservableList<Timeslot> timeslotsList = FXCollections.observableArrayList();
 
-        for (int i = 1; i <= 12; i++) {
-            Timeslot timeslot = new Timeslot(Integer.toString(i));
-            timeslotsList.add(timeslot);
-        }
+        // The 12 shared Timeslot instances, so booked slots can be compared by identity
+        timeslotsList.addAll(Timeslot.values());
         // set timeslot object to Choicebox
         cb_timeslot.setItems(timeslotsList);
         cb_rescheduleTimeslot.setItems(timeslotsList);
@@ -535,67 +564,59 @@ public class ClinicManagerController {
     }
 
     /**
-     * Helper method: validates if the given appointment date is an acceptable date for scheduling.
+     * Helper method: converts a date picked on a DatePicker to a Date object.
      *
-     * @param apptDate the date to be validated
-     * @return true if the appointment date is valid; false otherwise
+     * @param value the picked date
+     * @return the Date object of the picked date
      */
-    private boolean isValidApptDate(Date apptDate){
-        if(apptDate.isWithinSixMonths()) {
-            showAlert("\nAppointment date: " + apptDate + " is not within six months.");
-            return false;
-        }
-        if(apptDate.isToday() ||apptDate.isPastDate()) {
-            showAlert("\nAppointment date: " + apptDate+ " is today or a date before today."); // test this
-            return false;
-        }
-        if(apptDate.isWeekend()) {
-            showAlert("\nAppointment date: " + apptDate + " is a Saturday or Sunday.");
-            return false;
-        }
-        return true;
+    private static Date toDate(LocalDate value) {
+        return Date.of(value.getMonthValue(), value.getDayOfMonth(), value.getYear());
     }
 
     /**
-     * Helper method: validates the given date of birth (DOB) to ensure it is a valid date, not today, and not a future date.
+     * Helper method: creates the patient's profile from the name fields and the date of birth.
      *
-     * @param dob the date of birth to be validated
-     * @return true if the date of birth is valid; false otherwise
+     * @return the profile entered on the Home tab
      */
-    private boolean isValidDOB(Date dob){
-        if (dob.isToday() || dob.isFutureDate()) {
-            showAlert("Patient dob: " + dob + " is today or a date after today.");
-            return false;
-        }
-        return true;
+    private Profile enteredProfile() {
+        return new Profile(tf_firstName.getText(), tf_lastName.getText(), toDate(dp_dob.getValue()));
     }
 
     /**
-     * Checks if the given appointment already exists in the list of all appointments.
+     * Helper method: shows the result of a command, as an alert if a date is invalid or the
+     * appointment does not exist, and in the output area otherwise.
+     * Clears the input fields after a successful command.
      *
-     * @param appt The appointment to check.
-     * @return true if a duplicate appointment is found; false otherwise.
+     * @param result the result of the command
      */
-    private boolean isDuplicateAppt(Appointment appt) {
-        if (allAppointments.contains(appt)) {
-            ta_output.appendText("\n" + appt.getProfile()
-                    + " has an existing appointment at the same time slot.");
-            return true;
+    private void showResult(SchedulingResult result) {
+        switch (result.getStatus()) {
+            case INVALID_DATE:
+            case INVALID_DOB:
+            case NOT_FOUND:
+                showAlert(result.getMessage());
+                break;
+            default:
+                ta_output.appendText("\n" + result.getMessage());
+                break;
+        }
+        if (result.isSuccess()) {
+            clearFields();
         }
-        return false;
     }
 
     /**
      * Event handler that retrieves the selected appointment date from the DatePicker (dp_appointmentDate).
-     * Converts the selected date to a Date object and validates it using isValidApptDate().
+     * Converts the selected date to a Date object and shows an alert if it is invalid.
      *
      * @return A Date object representing the selected appointment date, or null if the date is invalid.
      */
     @FXML
     private Date apptDateSelected() {
-        String apptDateStr = dp_appointmentDate.getValue().toString();
-        Date apptDate = new Date(apptDateStr);
-        if(!isValidApptDate(apptDate)){
+        Date apptDate = toDate(dp_appointmentDate.getValue());
+        String invalid = service.checkAppointmentDate(apptDate);
+        if (invalid != null) {
+            showAlert(invalid);
             return null;
         }
         return apptDate;
@@ -603,47 +624,20 @@ public class ClinicManagerController {
 
     /**
      * Event handler that retrieves the selected date of birth (DOB) from the DatePicker (dp_dob).
-     * Converts the selected date to a Date object and validates it using isValidDOB().
+     * Converts the selected date to a Date object and shows an alert if it is invalid.
      *
      * @return A Date object representing the selected date of birth, or null if the date is invalid.
      */
     @FXML private Date dobSelected() {
-        String dobStr = dp_dob.getValue().toString();
-        Date dob = new Date(dobStr);
-        if(!isValidDOB(dob)){
+        Date dob = toDate(dp_dob.getValue());
+        String invalid = service.checkDob(dob);
+        if (invalid != null) {
+            showAlert(invalid);
             return null;
         }
         return dob;
     }
 
-    /**
-     * Helper method: Checks whether provider is available for a specific appointment
-     * @param appt the appointment to check
-     * @return  true if provider is available, false otherwise
-     */
-    private boolean isProviderAvailable(Appointment appt) {
-        Provider provider = (Provider) appt.getProvider();
-        Date apptDate = appt.getDate();
-        Timeslot timeslot = appt.getTimeslot();
-
-        // Validate provider and handle null case
-        if (provider == null) {
-            ta_output.appendText("\nProvider cannot be null.");
-            return false;
-        }
-
-        // Check if the provider already has an appointment at the same timeslot and date
-        for (Appointment existingAppt : allAppointments) {
-            if (existingAppt.getDate().equals(apptDate) && existingAppt.getTimeslot().equals(timeslot) &&
-                    existingAppt.getProvider().equals(provider)) {
-                ta_output.appendText("\n" + provider + " is not available at slot " + timeslot.toTimeFormat() + ".");
-                return false; // Conflict found, provider is not available
-            }
-        }
-        // If no conflicts found, the provider is available
-        return true;
-    }
-
     /**
      * Checks if all required fields for scheduling an appointment are filled.
      * Validates appointment date, DOB, timeslot, first name, and last name.
@@ -683,145 +677,23 @@ public class ClinicManagerController {
         if (!areScheduleFieldsValid()) {
             return;
         }
-
-        // Proceed with scheduling
-        Date apptDate = apptDateSelected();
-        Timeslot timeslot = cb_timeslot.getSelectionModel().getSelectedItem();
-        String fName = tf_firstName.getText();
-        String lName = tf_lastName.getText();
-        Date dob = dobSelected();
-        Profile patientProfile = new Profile(fName,lName,dob);
-        Patient patient = new Patient(patientProfile, null);
-        Provider provider = cmb_providers.getSelectionModel().getSelectedItem();
-
-        // Check for invalid dates
-        if(!isValidApptDate(apptDate) || !isValidDOB(dob)) {
-            return;
-        }
-        Appointment newAppt = new Appointment(apptDate, timeslot, patient, provider);
-        // Check for duplicate appointment and if provider available
-        if (isDuplicateAppt(newAppt) || !isProviderAvailable(newAppt)){
-            return;
-        }
-        // If the appointment is valid, add appointment.
-        allAppointments.add(newAppt);
-        ta_output.appendText("\n" + newAppt.toString() + " booked.");
-        // Clears input fields after successful scheduling.
-        clearFields();
-    }
-
-    /**
-     * Helper method: check the imaging room is available.
-     * @return true if available, otherwise false.
-     */
-    private boolean isRoomAvailable(Technician assignedTech, Timeslot requestTimeslot, Location location, Radiology requestRoom) {
-        for (Appointment appt : allAppointments) {
-            if (appt instanceof Imaging) {
-                Imaging imagingAppt = (Imaging) appt;
-
-                Technician currentTech = (Technician) appt.getProvider();
-                if (currentTech.getLocation().equals(assignedTech.getLocation())
-                        && imagingAppt.getRoom().equals(requestRoom)
-                        && imagingAppt.getTimeslot().equals(requestTimeslot)){
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
-    /**
-     * Helper method: Checks if a technician is available on a specific date and timeslot.
-     *
-     * @param tech The technician to check.
-     * @param requestDate The requested appointment date.
-     * @param requestTimeslot The requested timeslot.
-     * @return true if the technician is available; false otherwise.
-     */
-    private boolean isTechAvailable(Technician tech, Date requestDate, Timeslot requestTimeslot) {
-        for(Appointment appt : allAppointments) {
-            if (appt.getDate().equals(requestDate)
-                    && appt.getTimeslot().equals(requestTimeslot)
-                    && appt.getProvider().equals(tech)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    /**
-     * Helper method: Finds the next available technician from the rotation list
-     * to help schedule imaging appointment
-     *
-     * @param requestDate The date of the requested appointment.
-     * @param requestTimeslot The timeslot of the requested appointment.
-     * @param requestRoom The type of radiology room required for the appointment.
-     * @return The available Technician who can fulfill the request, or null if none are available.
-     */
-    private Technician findAvailableTech(Date requestDate, Timeslot requestTimeslot, Radiology requestRoom) {
-        int techCount = techRotationList.size();
-        Technician assignedTech = null;
-
-        // Rotate though the list of technicians to find an available match
-        for (int i = 0; i < techCount; i++) {
-            int currentIndex = (rotationIndex + i) % techCount;
-            Technician currentTech = techRotationList.get(currentIndex);
-
-            if (isTechAvailable(currentTech, requestDate, requestTimeslot)) {
-                if (isRoomAvailable(currentTech, requestTimeslot, currentTech.getLocation(), requestRoom)) {
-                    assignedTech = currentTech;
-                    rotationIndex = (currentIndex + 1) % techCount; // update the rotation index
-                    break;
-                }
-            }
-        }
-        return assignedTech;
+        showResult(service.execute(SchedulingCommand.office(toDate(dp_appointmentDate.getValue()),
+                cb_timeslot.getSelectionModel().getSelectedItem(), enteredProfile(),
+                cmb_providers.getSelectionModel().getSelectedItem())));
     }
 
     /**
      * Schedule imaging appointments if all require fields are valid.
+     * The technician is the next available one in the rotation.
      */
     void scheduleImagingAppointment() {
         // Validation for Schedule Imaging Appointment
         if (!areScheduleFieldsValid()){
             return;
         }
-
-        // Proceed with creating objects
-        Date apptDate = apptDateSelected();
-        Timeslot timeslot = cb_timeslot.getSelectionModel().getSelectedItem();
-        String fName = tf_firstName.getText();
-        String lName = tf_lastName.getText();
-        Date dob = dobSelected();
-        Profile patientProfile = new Profile(fName,lName,dob);
-        Patient patient = new Patient(patientProfile, null);
-        Radiology requestRoom = cmb_roomType.getSelectionModel().getSelectedItem();
-
-        // check for valid dates
-        if (!isValidApptDate(apptDate) || !isValidDOB(dob)) {
-            return;
-        }
-
-        // Create appointment
-        Appointment newAppt = new Appointment(apptDate, timeslot, patient);
-
-        // Check for duplicate appointment
-        if(isDuplicateAppt(newAppt)){
-            return;
-        }
-
-        //Find and assign available tech and create appointment
-        Technician assignedTech = findAvailableTech(apptDate, timeslot, requestRoom);
-        if (assignedTech != null) {
-            Appointment imagingAppt = new Imaging(apptDate, timeslot, patient, requestRoom);
-            imagingAppt.setProvider(assignedTech);
-            allAppointments.add(imagingAppt);
-            ta_output.appendText("\n" + imagingAppt.toString() + " booked.");
-            clearFields();
-        } else {
-            ta_output.appendText("\nCannot find an available technician at all locations for "
-                    + requestRoom +  " at slot " + timeslot.toTimeFormat() + " .");
-        }
+        showResult(service.execute(SchedulingCommand.imaging(toDate(dp_appointmentDate.getValue()),
+                cb_timeslot.getSelectionModel().getSelectedItem(), enteredProfile(),
+                cmb_roomType.getSelectionModel().getSelectedItem())));
     }
 
     /**
@@ -848,57 +720,9 @@ public class ClinicManagerController {
         if(!areRescheduleFieldsValid()) {
             return;
         }
-
-        // Create objects
-        Date apptDate = apptDateSelected();
-        Timeslot oldTimeslot = cb_timeslot.getSelectionModel().getSelectedItem();
-        String fName = tf_firstName.getText();
-        String lName = tf_lastName.getText();
-        Date dob = dobSelected();
-        Profile patientProfile = new Profile(fName,lName,dob);
-        Patient patient = new Patient(patientProfile, null);
-        Timeslot newTimeslot = cb_rescheduleTimeslot.getSelectionModel().getSelectedItem();
-        Appointment originalAppt = null;
-        Provider provider = null;
-
-        // Find the appointment based on patient, date, and timeslot to get provider.
-        for (Appointment existingAppt : allAppointments) {
-            if (existingAppt.getDate().equals(apptDate) &&
-                    existingAppt.getTimeslot().equals(oldTimeslot) &&
-                    existingAppt.getProfile().equals(patient)) {
-                originalAppt = existingAppt;
-                provider = (Provider)existingAppt.getProvider();
-                break;
-            }
-        }
-
-        // Check if original appointment exists
-        if (originalAppt == null) {
-            showAlert("\n" + apptDate + " " + oldTimeslot.toTimeFormat() + " "
-                    + patientProfile + " - appointment does not exist.");
-            return;
-        }
-
-        // Check whether to reschedule imaging or office appointment
-        Appointment newAppt;
-        if(originalAppt instanceof Imaging) {
-            Radiology requestRoom = ((Imaging) originalAppt).getRoom();
-            newAppt = new Imaging(apptDate, newTimeslot,patient, requestRoom );
-            newAppt.setProvider(provider);
-        } else {
-            newAppt = new Appointment(apptDate, newTimeslot, patient, provider);
-        }
-
-        // Check for new appointment conflict
-        if (isDuplicateAppt(newAppt) || !isProviderAvailable(newAppt)){
-            return;
-        }
-
-        // No conflict found, reschedule appointment.
-        allAppointments.remove(originalAppt);
-        allAppointments.add(newAppt);
-        ta_output.appendText("\nReschedule to " + newAppt);
-        clearFields();
+        showResult(service.execute(SchedulingCommand.reschedule(toDate(dp_appointmentDate.getValue()),
+                cb_timeslot.getSelectionModel().getSelectedItem(), enteredProfile(),
+                cb_rescheduleTimeslot.getSelectionModel().getSelectedItem())));
     }
 
     /**
@@ -925,46 +749,24 @@ public class ClinicManagerController {
         if(!areCancelFieldsValid()) {
             return;
         }
-
-        // Create patient profile and appointment object
-        Date apptDate = apptDateSelected();
-        Timeslot timeslot = cb_timeslot.getSelectionModel().getSelectedItem();
-        String fName = tf_firstName.getText();
-        String lName = tf_lastName.getText();
-        Date dob = dobSelected();
-        Profile patientProfile = new Profile(fName,lName,dob);
-        Person person = new Person(patientProfile);
-
-        Appointment appointment = new Appointment(apptDate, timeslot, person);
-
-        if(!allAppointments.contains(appointment)){
-            showAlert("\n" + appointment.getDate().toString() + " "
-                    + appointment.getTimeslot().toTimeFormat() + " "
-                    + appointment.getProfile()
-                    + " - appointment does not exist.");
-        } else {
-            allAppointments.remove(appointment);
-            ta_output.appendText("\n" + appointment.getDate().toString() + " "
-                    + appointment.getTimeslot().toTimeFormat() + " "
-                    + appointment.getProfile()
-                    + " - appointment has been canceled.");
-            clearFields();
-        }
+        showResult(service.execute(SchedulingCommand.cancel(toDate(dp_appointmentDate.getValue()),
+                cb_timeslot.getSelectionModel().getSelectedItem(), enteredProfile())));
     }
 
 
     /**
-     * Helper method to display appointments to List View
+     * Helper method to display appointments to List View, one page at a time.
+     * The pager shows the first page; each page change copies only the rows of
+     * that page from the sorted view, as it is at the time of the change.
+     *
+     * @param appointments the sorted view of appointments to display
      */
-    private void populateTableView() {
-        // Convert the list of appointments to an ObservableList
-        ObservableList<Appointment> appointmentsList = FXCollections.observableArrayList();
-        for (Appointment appt : allAppointments) {
-            appointmentsList.add(appt); // Adjust toString() to display desired appointment details
-        }
-
-        // Set the items for the TableView
-        tbl_appointments.setItems(appointmentsList);
+    private void populateTableView(SortedView<Appointment> appointments) {
+        pg_appointments.setPageCount(Math.max(1, (appointments.size() + TABLE_PAGE_SIZE - 1) / TABLE_PAGE_SIZE));
+        pg_appointments.setCurrentPageIndex(0);
+        // A new page factory makes the pager show its current page again
+        pg_appointments.setPageFactory(pageIndex -> showTablePage(appointments, pageIndex));
+        pg_appointments.setVisible(true);
 
         // Set cell value factories for each column to specify which property of Appointment should be displayed
         col_apptDate.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().getDate().toString()));
@@ -973,28 +775,41 @@ public class ClinicManagerController {
         col_provider.setCellValueFactory(cellData -> new SimpleStringProperty(cellData.getValue().getProvider().toString()));
     }
 
+    /**
+     * Helper method: sets the rows of one page of the sorted view as the items of the table.
+     *
+     * @param appointments the sorted view of appointments being displayed
+     * @param pageIndex the page to show, from 0
+     * @return an empty node for the pager, which shows no content of its own
+     */
+    private Region showTablePage(SortedView<Appointment> appointments, int pageIndex) {
+        ObservableList<Appointment> appointmentsList = FXCollections.observableArrayList();
+        for (Appointment appt : appointments.page(pageIndex * TABLE_PAGE_SIZE, TABLE_PAGE_SIZE)) {
+            appointmentsList.add(appt);
+        }
+        tbl_appointments.setItems(appointmentsList);
+        return new Region();
+    }
+
     /**
      * Helper method to display in List View all appointments, sort by date/time/provider
      */
     private void displayByDate() {
-        Sort.appointment(allAppointments, 'D');
-        populateTableView();
+        populateTableView(service.getAppointmentsByDate());
     }
 
     /**
      * Helper method to display in List View all appointments, sort by patient/date/time
      */
     private void displayByPatient() {
-        Sort.appointment(allAppointments, 'P');
-        populateTableView();
+        populateTableView(service.getAppointmentsByPatient());
     }
 
     /**
      * Helper method to display in List View all appointments, sort by county/date/time.
      */
     private void displayByLocation() {
-        Sort.appointment(allAppointments,'L');
-        populateTableView();
+        populateTableView(service.getAppointmentsByLocation());
     }
 
     /**
@@ -1005,7 +820,7 @@ public class ClinicManagerController {
      */
     @FXML
     void sortBySelected(String sortOption) {
-        if (allAppointments.isEmpty()){
+        if (service.getAppointments().isEmpty()){
             showAlert("Schedule calendar is empty.");
         }
         lb_warningSortBy.setVisible(false);
@@ -1014,6 +829,7 @@ public class ClinicManagerController {
             case "Date": displayByDate(); break;
             case "Location": displayByLocation(); break;
             default: tbl_appointments.getItems().clear(); // Clear the table view
+                pg_appointments.setVisible(false);
                 break;
         }
     }
@@ -1026,6 +842,7 @@ public class ClinicManagerController {
         cb_sortBy.setDisable(false); // enable sorting options
         cb_sortBy.getSelectionModel().clearSelection();
         tbl_appointments.getItems().clear();
+        pg_appointments.setVisible(false);
         lb_warningSortBy.setVisible(true);
     }
 
@@ -1037,7 +854,7 @@ public class ClinicManagerController {
         boolean hasOfficeAppointments = false;
 
         // Check if there are any non-Imaging (office) appointments
-        for (Appointment appt : allAppointments) {
+        for (Appointment appt : service.getAppointments()) {
             if (!(appt instanceof Imaging)) {
                 hasOfficeAppointments = true;
                 break;  // Exit as soon as a non-Imaging appointment is found
@@ -1050,14 +867,14 @@ public class ClinicManagerController {
             return;
         }
 
-        // Sort all appointments by county/date/time and print only office appointments
-        Sort.appointment(allAppointments, 'L');
-        for (Appointment appt : allAppointments) {
+        // List the appointments sorted by county/date/time and print only office appointments
+        for (Appointment appt : service.getAppointmentsByLocation()) {
             if (!(appt instanceof Imaging)) {  // Only print non-Imaging appointments
                 appointmentsList.add(appt);
             }
         }
         tbl_appointments.setItems(appointmentsList);
+        pg_appointments.setVisible(false);
     }
 
     /**
@@ -1080,7 +897,7 @@ public class ClinicManagerController {
         boolean hasImagingAppointments = false;
 
         // Check if there are any Imaging appointments
-        for (Appointment appt : allAppointments) {
+        for (Appointment appt : service.getAppointments()) {
             if (appt instanceof Imaging) {
                 hasImagingAppointments = true;
                 break;  // Exit as soon as an Imaging appointment is found
@@ -1091,14 +908,14 @@ public class ClinicManagerController {
             showAlert("Schedule calendar is empty."); // make it into alert message
             return;
         }
-        // Sort all appointments by county/date/time and print Imaging appointments
-        Sort.appointment(allAppointments, 'L');
-        for (Appointment appt : allAppointments) {
+        // List the appointments sorted by county/date/time and print Imaging appointments
+        for (Appointment appt : service.getAppointmentsByLocation()) {
             if (appt instanceof Imaging) {
                 appointmentsList.add(appt);
             }
         }
         tbl_appointments.setItems(appointmentsList);
+        pg_appointments.setVisible(false);
     }
 
     /**
@@ -1147,20 +964,18 @@ public class ClinicManagerController {
      * Prints the billing statement for all appointments.
      */
     private void printBillingStatements() {
-        if (allAppointments.isEmpty()) {
+        if (service.getAppointments().isEmpty()) {
             showAlert("No billing statements available.");
             return;
         }
 
-        Sort.appointment(allAppointments, 'P'); // sort by patient
         ta_billingOutput.appendText("** Billing statement ordered by patient **");
 
         double totalDue = 0.0;
         int count = 1;
         Profile currentProfile = null; // keep track of the patient currently processing
 
-        for (int i = 0; i < allAppointments.size(); i++) {
-            Appointment appt = allAppointments.get(i);
+        for (Appointment appt : service.getAppointmentsByPatient()) { // sorted by patient
 
             Person provider = (Provider)appt.getProvider();
             Person patientProfile = appt.getProfile();
@@ -1204,21 +1019,22 @@ public class ClinicManagerController {
      * based on their appointments.
      */
     private void printExpectedCredit() {
-        if (allAppointments.isEmpty()) {
+        if (service.getAppointments().isEmpty()) {
             showAlert("No provider credit statement available.");
             return;
         }
 
         ta_billingOutput.appendText("** Credit amount ordered by provider. **\n");
 
+        List<Provider> providerList = service.getProviders();
+        AppointmentStore allAppointments = service.getAppointments();
         // Loop over the providerList, and for each provider, calculate the total credit
         for (int i = 0; i < providerList.size(); i++) {
             Provider currentProvider = providerList.get(i);
             double totalCredit = 0.0;
 
             // Iterate through all appointments to accumulate the credit for this provider
-            for (int j = 0; j < allAppointments.size(); j++) {
-                Appointment appointment = allAppointments.get(j);
+            for (Appointment appointment : allAppointments) {
                 Provider provider = (Provider) appointment.getProvider();
 
                 // Check if this appointment's provider matches the current provider
@@ -0,0 +1,132 @@
+package com.example.project3;
+import java.util.HashMap;
+
+/**
+ * The CommandParser class turns the lines of a batch command file into SchedulingCommands.
+ * Each line mirrors an action of the Home tab, with comma-separated fields:
+ * <pre>
+ * S,appointment date,timeslot,first name,last name,date of birth,npi   schedule an office visit
+ * T,appointment date,timeslot,first name,last name,date of birth,room  schedule an imaging visit
+ * C,appointment date,timeslot,first name,last name,date of birth       cancel
+ * R,appointment date,timeslot,first name,last name,date of birth,new timeslot  reschedule
+ * </pre>
+ * Timeslots are slot numbers 1 to 12 and dates are M/D/YYYY.
+ * Parsing does not look at the booked appointments, so one parser may be shared by several threads.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class CommandParser {
+
+    private static final int MAX_FIELDS = 7;
+    private static final Radiology[] ROOMS = Radiology.values();
+
+    private final HashMap<String, Provider> doctorsByNpi = new HashMap<>();
+
+    /**
+     * Constructor that creates a parser for office visits with the doctors among the providers.
+     * @param providers the providers of the clinic
+     */
+    public CommandParser(List<Provider> providers) {
+        for (Provider provider : providers) {
+            if (provider instanceof Doctor) {
+                doctorsByNpi.putIfAbsent(((Doctor) provider).getNPI(), provider);
+            }
+        }
+    }
+
+    /**
+     * Parses one line of a command file.
+     *
+     * @param line the line to parse
+     * @return the command
+     * @throws IllegalArgumentException if the line is not a valid command; the message says why.
+     */
+    public SchedulingCommand parse(String line) {
+        String[] fields = new String[MAX_FIELDS];
+        int count = split(line, fields);
+        if (count == 0 || fields[0].length() != 1) {
+            throw new IllegalArgumentException("Invalid command!");
+        }
+        char action = fields[0].charAt(0);
+        int expected = action == 'C' ? MAX_FIELDS - 1 : MAX_FIELDS;
+        if (action != 'S' && action != 'T' && action != 'C' && action != 'R') {
+            throw new IllegalArgumentException("Invalid command!");
+        }
+        if (count != expected) {
+            throw new IllegalArgumentException("Missing data tokens.");
+        }
+        Date date = parseDate(fields[1]);
+        Timeslot timeslot = parseTimeslot(fields[2]);
+        Profile patient = new Profile(fields[3], fields[4], parseDate(fields[5]));
+        switch (action) {
+            case 'S':
+                Provider doctor = doctorsByNpi.get(fields[6]);
+                if (doctor == null) {
+                    throw new IllegalArgumentException(fields[6] + " - provider doesn't exist.");
+                }
+                return SchedulingCommand.office(date, timeslot, patient, doctor);
+            case 'T':
+                return SchedulingCommand.imaging(date, timeslot, patient, parseRoom(fields[6]));
+            case 'R':
+                return SchedulingCommand.reschedule(date, timeslot, patient, parseTimeslot(fields[6]));
+            default:
+                return SchedulingCommand.cancel(date, timeslot, patient);
+        }
+    }
+
+    /**
+     * Helper method: splits a line at commas into trimmed fields.
+     * @return the number of fields, or MAX_FIELDS + 1 if there are too many
+     */
+    private static int split(String line, String[] fields) {
+        int count = 0;
+        int start = 0;
+        int length = line.length();
+        while (start <= length) {
+            int end = line.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (count == fields.length) {
+                return fields.length + 1;
+            }
+            fields[count++] = line.substring(start, end).trim();
+            start = end + 1;
+        }
+        return count == 1 && fields[0].isEmpty() ? 0 : count;
+    }
+
+    /**
+     * Helper method: parses a M/D/YYYY date; the calendar is checked when the command runs.
+     */
+    private static Date parseDate(String field) {
+        try {
+            return Date.parse(field);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " is not a valid date.");
+        }
+    }
+
+    /**
+     * Helper method: parses a slot number from 1 to 12.
+     */
+    private static Timeslot parseTimeslot(String field) {
+        try {
+            return Timeslot.of(Integer.parseInt(field));
+        } catch (IllegalArgumentException e) { // NumberFormatException included
+            throw new IllegalArgumentException(field + " is not a valid time slot.");
+        }
+    }
+
+    /**
+     * Helper method: parses an imaging room type, ignoring case.
+     */
+    private static Radiology parseRoom(String field) {
+        for (Radiology room : ROOMS) {
+            if (room.name().equalsIgnoreCase(field)) {
+                return room;
+            }
+        }
+        throw new IllegalArgumentException(field + " - imaging service not provided.");
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.project3;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The ConcurrentAppointmentStore class holds appointments booked by several threads at once,
+ * for booking front-ends that share one clinic in the same JVM.
+ * A provider's timeslots on a day are guarded by one of a fixed set of locks chosen by the
+ * provider and the epoch day, and an imaging room's timeslots by one chosen by the location,
+ * the room type and the epoch day, so bookings for different providers or days rarely wait
+ * on each other. Each lock guards its own AvailabilityIndex or RoomOccupancyIndex.
+ * A patient's appointment is claimed in a ConcurrentHashMap under its primary key, so a
+ * patient is never booked twice at a time either.
+ * Imaging bookings take the provider lock before the room lock, so locks never deadlock.
+ * SchedulingService books through this store by default, and services given the same
+ * store never book a provider, room or patient twice between them.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class ConcurrentAppointmentStore implements AppointmentStore {
+
+    private static final int DEFAULT_STRIPES = 64;
+    private static final int ROOM_TYPES = Radiology.values().length;
+
+    private final ConcurrentHashMap<AppointmentIndex.Key, Appointment> appointments = new ConcurrentHashMap<>();
+    private final ReentrantLock[] providerLocks;
+    private final AvailabilityIndex[] providerSlots;
+    private final ReentrantLock[] roomLocks;
+    private final RoomOccupancyIndex[] roomSlots;
+
+    /**
+     * Constructor that creates an empty store with the default number of locks.
+     */
+    public ConcurrentAppointmentStore() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * Constructor that creates an empty store.
+     * @param stripes the number of provider locks and of room locks, rounded up to a power of two
+     * @throws IllegalArgumentException if stripes is less than 1.
+     */
+    public ConcurrentAppointmentStore(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("A store needs at least one lock.");
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        providerLocks = new ReentrantLock[size];
+        providerSlots = new AvailabilityIndex[size];
+        roomLocks = new ReentrantLock[size];
+        roomSlots = new RoomOccupancyIndex[size];
+        for (int i = 0; i < size; i++) {
+            providerLocks[i] = new ReentrantLock();
+            providerSlots[i] = new AvailabilityIndex();
+            roomLocks[i] = new ReentrantLock();
+            roomSlots[i] = new RoomOccupancyIndex();
+        }
+    }
+
+    /**
+     * Books an appointment with its provider. An Imaging appointment also books the room
+     * of its type at the technician's location.
+     *
+     * @param appt the appointment to book, with its provider set
+     * @return BOOKED, or DUPLICATE if the patient is booked at the time,
+     * PROVIDER_UNAVAILABLE if the provider is, or ROOM_UNAVAILABLE if the room is.
+     * @throws IllegalArgumentException if the appointment has no provider.
+     */
+    @Override
+    public SchedulingResult.Status book(Appointment appt) {
+        Provider provider = AppointmentStores.providerOf(appt);
+        Date date = appt.getDate();
+        Timeslot timeslot = appt.getTimeslot();
+        AppointmentIndex.Key key = new AppointmentIndex.Key(date, timeslot, appt.getProfile());
+        int providerStripe = providerStripe(provider, date);
+        ReentrantLock providerLock = providerLocks[providerStripe];
+        providerLock.lock();
+        try {
+            if (appointments.containsKey(key)) {
+                return SchedulingResult.Status.DUPLICATE;
+            }
+            if (!providerSlots[providerStripe].isFree(provider, date, timeslot)) {
+                return SchedulingResult.Status.PROVIDER_UNAVAILABLE;
+            }
+            if (!(appt instanceof Imaging)) {
+                if (appointments.putIfAbsent(key, appt) != null) {
+                    return SchedulingResult.Status.DUPLICATE; // booked by another thread meanwhile
+                }
+                providerSlots[providerStripe].book(provider, date, timeslot);
+                return SchedulingResult.Status.BOOKED;
+            }
+            Radiology room = ((Imaging) appt).getRoom();
+            int roomStripe = roomStripe(provider.getLocation(), room, date);
+            ReentrantLock roomLock = roomLocks[roomStripe];
+            roomLock.lock();
+            try {
+                if (!roomSlots[roomStripe].isFree(provider.getLocation(), room, date, timeslot)) {
+                    return SchedulingResult.Status.ROOM_UNAVAILABLE;
+                }
+                if (appointments.putIfAbsent(key, appt) != null) {
+                    return SchedulingResult.Status.DUPLICATE;
+                }
+                providerSlots[providerStripe].book(provider, date, timeslot);
+                roomSlots[roomStripe].book(provider.getLocation(), room, date, timeslot);
+                return SchedulingResult.Status.BOOKED;
+            } finally {
+                roomLock.unlock();
+            }
+        } finally {
+            providerLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the appointment equal to appt, freeing its provider and room.
+     * @param appt the appointment to remove
+     * @return the removed appointment, or null if none is booked
+     */
+    @Override
+    public Appointment remove(Appointment appt) {
+        AppointmentIndex.Key key = new AppointmentIndex.Key(appt.getDate(), appt.getTimeslot(), appt.getProfile());
+        while (true) {
+            Appointment stored = appointments.get(key);
+            if (stored == null) {
+                return null;
+            }
+            Provider provider = AppointmentStores.providerOf(stored);
+            Date date = stored.getDate();
+            Timeslot timeslot = stored.getTimeslot();
+            int providerStripe = providerStripe(provider, date);
+            ReentrantLock providerLock = providerLocks[providerStripe];
+            providerLock.lock();
+            try {
+                if (!(stored instanceof Imaging)) {
+                    if (AppointmentStores.removeExactly(appointments, key, stored)) {
+                        providerSlots[providerStripe].release(provider, date, timeslot);
+                        return stored;
+                    }
+                    continue; // replaced by another thread; look again
+                }
+                Radiology room = ((Imaging) stored).getRoom();
+                int roomStripe = roomStripe(provider.getLocation(), room, date);
+                ReentrantLock roomLock = roomLocks[roomStripe];
+                roomLock.lock();
+                try {
+                    if (AppointmentStores.removeExactly(appointments, key, stored)) {
+                        providerSlots[providerStripe].release(provider, date, timeslot);
+                        roomSlots[roomStripe].release(provider.getLocation(), room, date, timeslot);
+                        return stored;
+                    }
+                } finally {
+                    roomLock.unlock();
+                }
+            } finally {
+                providerLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the booked appointment of the patient at the date and timeslot.
+     *
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     * @param patient the patient, or any Person with the patient's profile
+     * @return the booked appointment, or null if none is booked
+     */
+    @Override
+    public Appointment find(Date date, Timeslot timeslot, Person patient) {
+        return appointments.get(new AppointmentIndex.Key(date, timeslot, patient));
+    }
+
+    /**
+     * Checks if an appointment equal to appt is booked.
+     * @param appt the appointment to find
+     * @return true if found, false otherwise
+     */
+    @Override
+    public boolean contains(Appointment appt) {
+        return find(appt.getDate(), appt.getTimeslot(), appt.getProfile()) != null;
+    }
+
+    /**
+     * Checks whether the provider has no appointment at the date and timeslot.
+     *
+     * @param provider the provider
+     * @param date the date
+     * @param timeslot the timeslot
+     * @return true if the provider is free, false otherwise
+     */
+    @Override
+    public boolean isProviderFree(Provider provider, Date date, Timeslot timeslot) {
+        int stripe = providerStripe(provider, date);
+        providerLocks[stripe].lock();
+        try {
+            return providerSlots[stripe].isFree(provider, date, timeslot);
+        } finally {
+            providerLocks[stripe].unlock();
+        }
+    }
+
+    /**
+     * Checks whether the room of the location has no appointment at the date and timeslot.
+     *
+     * @param location the location of the room
+     * @param room the type of the room
+     * @param date the date
+     * @param timeslot the timeslot
+     * @return true if the room is free, false otherwise
+     */
+    @Override
+    public boolean isRoomFree(Location location, Radiology room, Date date, Timeslot timeslot) {
+        int stripe = roomStripe(location, room, date);
+        roomLocks[stripe].lock();
+        try {
+            return roomSlots[stripe].isFree(location, room, date, timeslot);
+        } finally {
+            roomLocks[stripe].unlock();
+        }
+    }
+
+    /**
+     * Getter method that returns the number of booked appointments.
+     * @return the number of appointments
+     */
+    @Override
+    public int size() {
+        return appointments.size();
+    }
+
+    /**
+     * Returns an iterator over the booked appointments, in no particular order.
+     * The iterator does not fail when other threads book or remove appointments meanwhile.
+     * @return the iterator
+     */
+    @Override
+    public Iterator<Appointment> iterator() {
+        return appointments.values().iterator();
+    }
+
+    /**
+     * Helper method: returns the lock stripe of a provider's day.
+     */
+    private int providerStripe(Provider provider, Date date) {
+        return spread(provider.hashCode() * 31 + date.toEpochDay()) & (providerLocks.length - 1);
+    }
+
+    /**
+     * Helper method: returns the lock stripe of a room's day.
+     */
+    private int roomStripe(Location location, Radiology room, Date date) {
+        int roomIndex = location.ordinal() * ROOM_TYPES + room.ordinal();
+        return spread(roomIndex * 31 + date.toEpochDay()) & (roomLocks.length - 1);
+    }
+
+    /**
+     * Helper method: mixes the bits of a hash so nearby days and providers use different stripes.
+     */
+    private static int spread(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -16,59 +16,238 @@ public class Date implements Comparable<Date> {
     public static final int QUADRICENTENNIAL = 400;
     public static final int DAYS_IN_FEB_LEAP = 29;
 
-    // Instance variables for day, month, and year
-    private int year;
-    private int month;
-    private int day;
+    // Days from 0000-03-01 to 1970-01-01, and days in a 400-year cycle
+    private static final int DAYS_0000_TO_1970 = 719468;
+    private static final int DAYS_PER_CYCLE = 146097;
+
+    // Valid dates are interned in a direct-mapped cache of this many dates (a power of two)
+    private static final int INTERN_CACHE_SIZE = 1 << 12;
+    private static final Date[] internCache = new Date[INTERN_CACHE_SIZE];
+    private static final int DEFAULT_PACKED = 1 << 8; // January 0th, year 0
+    private static final int INVALID_PACKED = 0; // month 0, day 0, year 0, for fields that do not fit
+
+    // Year, month (1 to 12) and day packed as year << 16 | month << 8 | day
+    private final int packed;
 
     /**
      * Default constructor for Date class.
-     * Initializes the date to January 1st, 1900.
+     * Initializes the date to January 0th, year 0, which is not a valid date.
      */
     public Date() {
+        this.packed = DEFAULT_PACKED;
     }
 
     /**
      * Constructor to create a Date instance.
+     * A month or day outside 0 to 255, or a year outside -32768 to 32767, does not fit
+     * in the packed fields; the date is then month 0, day 0, year 0, which is not valid.
      *
      * @param day        the day of the date
      * @param month     the month of the date
      * @param year      the year of the date
      */
     public Date(int month, int day, int year) {
-        this.month = month - 1 ; // Adjust to zero-based calendar
-        this.day = day;
-        this.year = year;
+        this.packed = pack(month, day, year);
     }
 
     /**
      * This constructor takes in a string input in the format MM/DD/YYYY,
      * or input in the format YYYY-MM-DD
-     * splits and parses the input to initialize instance variables.
+     * and parses the input in one pass to initialize instance variables.
      *
      * @param date the string representing the date (MM/DD/YYYY)
+     * @throws NumberFormatException if a part of the date is not a number
      */
     public Date(String date) {
-        String[] parts;
-        if (date.contains("/")){
-            parts = date.split("/");
-            if (parts.length == 3) {
-                // Trim spaces around each part and check if they are numeric
-                this.month = Integer.parseInt(parts[0].trim()) - 1; //convert to zero based calendar
-                this.day = Integer.parseInt(parts[1].trim());
-                this.year = Integer.parseInt(parts[2].trim());
+        this.packed = parsePacked(date);
+    }
+
+    /**
+     * Returns the shared Date instance for the month, day and year.
+     * Valid dates are interned in a bounded cache keyed by epoch day,
+     * so dates that are used often share one object.
+     *
+     * @param month the month of the date
+     * @param day the day of the date
+     * @param year the year of the date
+     * @return the date
+     */
+    public static Date of(int month, int day, int year) {
+        return intern(pack(month, day, year));
+    }
+
+    /**
+     * Parses a date in the format M/D/YYYY or YYYY-MM-DD and returns the shared Date instance for it.
+     * The text is read once, without splitting it or creating Strings.
+     *
+     * @param date the text of the date
+     * @return the date
+     * @throws NumberFormatException if a part of the date is not a number
+     */
+    public static Date parse(CharSequence date) {
+        return intern(parsePacked(date));
+    }
+
+    /**
+     * Helper method: returns the cached Date with the packed fields, caching it if the date is valid.
+     * The cache is direct-mapped on the epoch day; a date replaces the one in its slot.
+     * Dates are immutable, so threads may share cached dates without locking.
+     */
+    private static Date intern(int packed) {
+        int year = packed >> 16;
+        int month = (packed >> 8) & 0xFF;
+        int day = packed & 0xFF;
+        if (!isValid(month, day, year)) {
+            return new Date(month, day, year);
+        }
+        int slot = toEpochDay(year, month, day) & (INTERN_CACHE_SIZE - 1);
+        Date cached = internCache[slot];
+        if (cached != null && cached.packed == packed) {
+            return cached;
+        }
+        Date date = new Date(month, day, year);
+        internCache[slot] = date;
+        return date;
+    }
+
+    /**
+     * Helper method: parses M/D/YYYY or YYYY-MM-DD into packed fields.
+     * Like splitting on the separator, text with no '/' or '-', or without exactly three parts,
+     * gives the default date, and separators at the end of the text are ignored.
+     * Spaces around each part are ignored.
+     */
+    private static int parsePacked(CharSequence date) {
+        int length = date.length();
+        char separator = 0;
+        for (int i = 0; i < length && separator != '/'; i++) {
+            char c = date.charAt(i);
+            if (c == '/' || c == '-' && separator == 0) {
+                separator = c;
             }
-        } else if (date.contains("-")){
-            parts = date.split("-");
-            if (parts.length == 3) {
-                this.year = Integer.parseInt(parts[0].trim());
-                this.month = Integer.parseInt(parts[1].trim()) - 1; // Convert to zero-based calendar
-                this.day = Integer.parseInt(parts[2].trim());
+        }
+        if (separator == 0) {
+            return DEFAULT_PACKED;
+        }
+        while (length > 0 && date.charAt(length - 1) == separator) {
+            length--; // split drops the empty parts at the end
+        }
+        int firstEnd = -1, secondEnd = -1;
+        for (int i = 0; i < length; i++) {
+            if (date.charAt(i) == separator) {
+                if (firstEnd < 0) {
+                    firstEnd = i;
+                } else if (secondEnd < 0) {
+                    secondEnd = i;
+                } else {
+                    return DEFAULT_PACKED; // more than three parts
+                }
             }
         }
+        if (secondEnd < 0) {
+            return DEFAULT_PACKED;
+        }
+        int first = parseInt(date, 0, firstEnd);
+        int second = parseInt(date, firstEnd + 1, secondEnd);
+        int third = parseInt(date, secondEnd + 1, length);
+        return separator == '/' ? pack(first, second, third) : pack(second, third, first);
     }
 
+    /**
+     * Helper method: parses the int in date[start, end), ignoring spaces around it.
+     * @throws NumberFormatException if the text is not an int
+     */
+    private static int parseInt(CharSequence date, int start, int end) {
+        while (start < end && date.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && date.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return Integer.parseInt(date, start, end, 10);
+    }
 
+    /**
+     * Returns the shared Date instance for the date that is the given number of days after January 1st, 1970.
+     *
+     * @param epochDay the number of days from January 1st, 1970
+     * @return the date
+     */
+    public static Date ofEpochDay(int epochDay) {
+        int days = epochDay + DAYS_0000_TO_1970;
+        int era = Math.floorDiv(days, DAYS_PER_CYCLE);
+        int dayOfEra = days - era * DAYS_PER_CYCLE;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / (DAYS_PER_CYCLE - 1)) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / QUADRENNIAL - yearOfEra / CENTENNIAL);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153; // March is 0
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = yearOfEra + era * QUADRICENTENNIAL + (month <= 2 ? 1 : 0);
+        return of(month, day, year);
+    }
+
+    /**
+     * Helper method: packs the fields of a date, or returns the packed invalid date
+     * if a field does not fit in its bits.
+     */
+    private static int pack(int month, int day, int year) {
+        if (year < Short.MIN_VALUE || year > Short.MAX_VALUE
+                || month < 0 || month > 0xFF || day < 0 || day > 0xFF) {
+            return INVALID_PACKED;
+        }
+        return year << 16 | month << 8 | day;
+    }
+
+    /**
+     * Getter for the year of the date.
+     *
+     * @return the year
+     */
+    public int getYear() {
+        return this.packed >> 16;
+    }
+
+    /**
+     * Getter for the month of the date.
+     *
+     * @return the month, from 1 for January to 12 for December
+     */
+    public int getMonth() {
+        return (this.packed >> 8) & 0xFF;
+    }
+
+    /**
+     * Getter for the day of the month.
+     *
+     * @return the day of the month
+     */
+    public int getDay() {
+        return this.packed & 0xFF;
+    }
+
+    /**
+     * Returns the number of days from January 1st, 1970 to this date,
+     * computed with integer arithmetic only.
+     * Days past the end of the month count into the next month.
+     *
+     * @return the epoch day of this date
+     */
+    public int toEpochDay() {
+        return toEpochDay(getYear(), getMonth(), getDay());
+    }
+
+    /**
+     * Helper method: returns the epoch day of a year, month (1 to 12) and day.
+     */
+    private static int toEpochDay(int y, int m, int day) {
+        if (m <= 2) {
+            y--; // count January and February as the end of the previous year
+        }
+        int era = (y >= 0 ? y : y - (QUADRICENTENNIAL - 1)) / QUADRICENTENNIAL;
+        int yearOfEra = y - era * QUADRICENTENNIAL;
+        int dayOfYear = (153 * (m > 2 ? m - 3 : m + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / QUADRENNIAL - yearOfEra / CENTENNIAL + dayOfYear;
+        return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+    }
 
     /**
      * Helper method: Convert this Date object to a Calendar object.
@@ -77,9 +256,9 @@ public class Date implements Comparable<Date> {
      */
     public Calendar toCalendar() {
         Calendar calendar = Calendar.getInstance();
-        calendar.set(Calendar.YEAR, this.year);
-        calendar.set(Calendar.MONTH, this.month);
-        calendar.set(Calendar.DAY_OF_MONTH, this.day);
+        calendar.set(Calendar.YEAR, getYear());
+        calendar.set(Calendar.MONTH, getMonth() - 1);
+        calendar.set(Calendar.DAY_OF_MONTH, getDay());
         return calendar;
     }
 
@@ -89,7 +268,7 @@ public class Date implements Comparable<Date> {
      * @param year the year to check
      * @return true if the year is a leap year, false otherwise
      */
-    private boolean isLeapYear(int year) {
+    private static boolean isLeapYear(int year) {
         if (year % QUADRENNIAL == 0) {
             if (year % CENTENNIAL == 0) {
                 return year % QUADRICENTENNIAL == 0 ;
@@ -102,18 +281,18 @@ public class Date implements Comparable<Date> {
     /**
      * Helper method to get the number of days in a given month and year.
      *
-     * @param month the month to check
+     * @param month the month to check, from 1 to 12
      * @param year  the year to check
      * @return the number of days in the specified month and year
      */
-    private int getDaysInMonth(int month, int year) {
+    private static int getDaysInMonth(int month, int year) {
         switch (month) {
-            case Calendar.FEBRUARY:
+            case 2:
                 return isLeapYear(year) ? DAYS_IN_FEB_LEAP : 28;
-            case Calendar.APRIL:
-            case Calendar.JUNE:
-            case Calendar.SEPTEMBER:
-            case Calendar.NOVEMBER:
+            case 4:
+            case 6:
+            case 9:
+            case 11:
                 return 30;
             default: return 31;
         }
@@ -125,13 +304,20 @@ public class Date implements Comparable<Date> {
      * @return true if the date is valid, false otherwise
      */
     public boolean isValid() {
+        return isValid(getMonth(), getDay(), getYear());
+    }
+
+    /**
+     * Helper method: validates a month (1 to 12), day and year.
+     */
+    private static boolean isValid(int month, int day, int year) {
         // Check for invalid year
         if ( year < 1900){
             return false;
         }
 
         // Check for invalid month
-        if ( month < Calendar.JANUARY || month > Calendar.DECEMBER) {
+        if ( month < 1 || month > 12) {
             return false;
         }
 
@@ -141,59 +327,41 @@ public class Date implements Comparable<Date> {
     }
 
     /**
-     * Check if this Date represents today's date by comparing it to the current Calendar system.
+     * Check if this Date represents today's date, by the default ClinicClock.
      *
      * @return true if the date is today, false otherwise.
      */
     public boolean isToday(){
-        Calendar today = Calendar.getInstance();
-        return this.year == today.get(Calendar.YEAR)
-                && this.month == today.get(Calendar.MONTH)
-                && this.day == today.get(Calendar.DAY_OF_MONTH);
+        return toEpochDay() == ClinicClock.getDefault().today();
     }
 
     /**
      * Checks if this Date represent the date before today.
-     * The method compares the year, month, and day of the current date object with today's date.
      *
      * @return true if this Date is before today, false otherwise.
      */
     public boolean isPastDate() {
-        Calendar today = Calendar.getInstance();
-
-        return this.year < today.get(Calendar.YEAR) ||
-                (this.year == today.get(Calendar.YEAR) && this.month < today.get(Calendar.MONTH)) ||
-                (this.month == (today.get(Calendar.MONTH)) && this.day < today.get(Calendar.DAY_OF_MONTH));
+        return toEpochDay() < ClinicClock.getDefault().today();
     }
 
     /**
      * Checks if this Date represents a date after today's date.
-     * The method compares the year, month, and day of the current date object with today's date.
      *
      * @return true if this Date is after today, false otherwise.
      */
     public boolean isFutureDate() {
-        Calendar today = Calendar.getInstance();
-
-        return this.year > today.get(Calendar.YEAR) ||
-                (this.year == today.get(Calendar.YEAR) && this.month > today.get(Calendar.MONTH)) ||
-                (this.month == (today.get(Calendar.MONTH)) && this.day > today.get(Calendar.DAY_OF_MONTH));
+        return toEpochDay() > ClinicClock.getDefault().today();
     }
 
     /**
      * Checks if this Date is on a Weekend ( Saturday or Sunday).
+     * January 1st, 1970 was a Thursday, so the day of the week follows from the epoch day.
      *
      * @return true if the date is a weekend, false otherwise.
      */
     public boolean isWeekend() {
-        Calendar calendar = this.toCalendar();
-
-        calendar.set(Calendar.YEAR, this.year);
-        calendar.set(Calendar.MONTH, this.month);
-        calendar.set(Calendar.DAY_OF_MONTH, this.day);
-
-        int dayOfWeek = calendar.get(Calendar.DAY_OF_WEEK);
-        return dayOfWeek == Calendar.SATURDAY || dayOfWeek == Calendar.SUNDAY;
+        int dayOfWeek = Math.floorMod(toEpochDay() + 3, 7); // Monday is 0
+        return dayOfWeek >= 5;
     }
 
     /**
@@ -202,13 +370,7 @@ public class Date implements Comparable<Date> {
      * @return true if this date is more than six months after today's date.
      */
     public boolean isWithinSixMonths() {
-        Calendar sixMonths = Calendar.getInstance();
-        sixMonths.add(Calendar.MONTH, 6);
-
-        return (this.year > sixMonths.get(Calendar.YEAR)) ||
-                (this.year == sixMonths.get(Calendar.YEAR) && this.month > sixMonths.get(Calendar.MONTH)) ||
-                (this.year == sixMonths.get(Calendar.YEAR) && this.month == sixMonths.get(Calendar.MONTH)
-                        && this.day >= sixMonths.get(Calendar.DAY_OF_MONTH));
+        return toEpochDay() >= ClinicClock.getDefault().sixMonthsFromToday();
     }
 
 
@@ -221,17 +383,25 @@ public class Date implements Comparable<Date> {
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof Date) {
-            Date date = (Date) obj;
-            return this.day == date.day
-                    && this.month == date.month
-                    && this.year == date.year;
+            return this.packed == ((Date) obj).packed;
         }
         return false;
     }
 
+    /**
+     * Overrides the hashCode method to be consistent with equals.
+     *
+     * @return the packed year, month and day
+     */
+    @Override
+    public int hashCode() {
+        return this.packed;
+    }
+
     /**
      * Overrides the compareTo method from the Comparable interface.
      * Compares this Date object with another Date object.
+     * The packed fields order by year, then month, then day.
      *
      * @param other the Date object to compare to
      * @return a negative integer, zero, or a positive integer as this date is
@@ -239,13 +409,7 @@ public class Date implements Comparable<Date> {
      */
     @Override
     public int compareTo(Date other) {
-        if (this.year != other.year) {
-            return Integer.compare(this.year, other.year);
-        }
-        if(this.month != other.month) {
-            return Integer.compare(this.month, other.month);
-        }
-        return Integer.compare(this.day, other.day);
+        return Integer.compare(this.packed, other.packed);
     }
 
     /**
@@ -256,10 +420,7 @@ public class Date implements Comparable<Date> {
      */
     @Override
     public String toString() {
-        return String.format("%d/%d/%d", this.month + 1, this.day, this.year);
+        return getMonth() + "/" + getDay() + "/" + getYear();
     }
 
 }
-
-
-
@@ -0,0 +1,119 @@
+package com.example.project3;
+import java.util.Arrays;
+
+/**
+ * The DayMasks class maps epoch days to bitmasks of booked timeslots,
+ * bit (slot number - 1) being set when that slot is booked.
+ * It is an open-addressing hash table over primitive ints, so looking up a day
+ * neither boxes the day nor allocates.
+ * A day whose slots are all released keeps an entry with an empty mask.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class DayMasks {
+
+    private static final int EMPTY = Integer.MIN_VALUE; // never a day of a valid date
+    private static final int INITIAL_CAPACITY = 16;   // a power of two
+
+    private int[] days;
+    private int[] masks;
+    private int size;
+
+    /**
+     * Default constructor that creates an empty table.
+     */
+    public DayMasks() {
+        days = new int[INITIAL_CAPACITY];
+        masks = new int[INITIAL_CAPACITY];
+        Arrays.fill(days, EMPTY);
+    }
+
+    /**
+     * Returns the bitmask of the booked slots of a day.
+     * @param epochDay the day
+     * @return the mask, 0 if nothing is booked on the day
+     */
+    public int get(int epochDay) {
+        int i = find(epochDay);
+        return days[i] == EMPTY ? 0 : masks[i];
+    }
+
+    /**
+     * Sets the bits of the mask on a day.
+     * @param epochDay the day
+     * @param bits the bits to set
+     * @return the mask of the day before the bits were set
+     */
+    public int set(int epochDay, int bits) {
+        int i = find(epochDay);
+        if (days[i] == EMPTY) {
+            if (bits == 0) {
+                return 0;
+            }
+            days[i] = epochDay;
+            masks[i] = bits;
+            if (++size * 4 > days.length * 3) {
+                rehash();
+            }
+            return 0;
+        }
+        int old = masks[i];
+        masks[i] = old | bits;
+        return old;
+    }
+
+    /**
+     * Clears the bits of the mask on a day.
+     * @param epochDay the day
+     * @param bits the bits to clear
+     * @return the mask of the day before the bits were cleared
+     */
+    public int clear(int epochDay, int bits) {
+        int i = find(epochDay);
+        if (days[i] == EMPTY) {
+            return 0;
+        }
+        int old = masks[i];
+        masks[i] = old & ~bits;
+        return old;
+    }
+
+    /**
+     * Getter method that returns the number of days in the table.
+     * @return the number of days
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Helper method: returns the index of the day, or of the empty entry where it would go.
+     */
+    private int find(int epochDay) {
+        int mask = days.length - 1;
+        int hash = epochDay * 0x9E3779B9; // spread consecutive days over the table
+        int i = (hash ^ hash >>> 16) & mask;
+        while (days[i] != EMPTY && days[i] != epochDay) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Helper method: doubles the capacity of the table.
+     */
+    private void rehash() {
+        int[] oldDays = days;
+        int[] oldMasks = masks;
+        days = new int[oldDays.length * 2];
+        masks = new int[oldDays.length * 2];
+        Arrays.fill(days, EMPTY);
+        for (int j = 0; j < oldDays.length; j++) {
+            if (oldDays[j] != EMPTY) {
+                int i = find(oldDays[j]);
+                days[i] = oldDays[j];
+                masks[i] = oldMasks[j];
+            }
+        }
+    }
+}
@@ -62,6 +62,12 @@ public class Doctor extends Provider {
         return specialty.getCharge();
     }
 
+    /**
+     * Checks if another object is the same doctor: same profile, location, specialty and NPI.
+     *
+     * @param obj the object to compare to
+     * @return true if the object is an equal Doctor, false otherwise
+     */
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof Doctor) {
@@ -0,0 +1,217 @@
+package com.example.project3;
+import java.util.HashMap;
+
+/**
+ * The IndexedList class is a List that keeps a hash index from each object to the
+ * position of its first occurrence in the array, so contains, indexOf and remove
+ * find an object in O(1) instead of scanning the whole array.
+ * The index is kept correct through set and the shifts done by removeAt.
+ * Objects stored in this list must implement hashCode consistently with equals.
+ * Two objects match only when each equals the other, so an asymmetric equals
+ * (a Technician equals a Doctor with its profile, but not the other way round)
+ * never makes objects of different classes stand for one another in the index.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class IndexedList<E> extends List<E> {
+
+    private final HashMap<Key, Position> index;
+
+    /**
+     * Hash key of an object: equal to the key of another object only when
+     * the two objects are equal both ways.
+     */
+    private static final class Key {
+        private final Object e;
+
+        private Key(Object e) {
+            this.e = e;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            Object other = ((Key) obj).e;
+            return matches(e, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return e == null ? 0 : e.hashCode();
+        }
+    }
+
+    /**
+     * Position of an object in the array: the index of its first occurrence,
+     * and how many times it occurs in the list.
+     */
+    private static final class Position {
+        private int first;
+        private int count;
+
+        private Position(int first) {
+            this.first = first;
+            this.count = 1;
+        }
+    }
+
+    /**
+     * Constructor that creates an empty indexed list.
+     */
+    public IndexedList() {
+        super();
+        this.index = new HashMap<>();
+    }
+
+    /**
+     * Constructor that pre-sizes the array and the hash index.
+     * @param initialCapacity the number of objects the list can hold before growing
+     */
+    public IndexedList(int initialCapacity) {
+        super(initialCapacity);
+        this.index = new HashMap<>(Math.max(16, (int) (initialCapacity / 0.75f) + 1));
+    }
+
+    /**
+     * Helper method: records that object e now occurs at index i.
+     */
+    private void link(E e, int i) {
+        Key key = new Key(e);
+        Position position = index.get(key);
+        if (position == null) {
+            index.put(key, new Position(i));
+        } else {
+            position.count++;
+            if (i < position.first) {
+                position.first = i;
+            }
+        }
+    }
+
+    /**
+     * Helper method: records that object e no longer occurs at index i.
+     * If i was its first occurrence, the next occurrence is searched from index i.
+     */
+    private void unlink(E e, int i) {
+        Key key = new Key(e);
+        Position position = index.get(key);
+        if (--position.count == 0) {
+            index.remove(key);
+        } else if (position.first == i) {
+            position.first = scan(e, i);
+        }
+    }
+
+    /**
+     * Helper method: finds the first occurrence of object e at or after index from.
+     */
+    private int scan(E e, int from) {
+        for (int i = from; i < size(); i++) {
+            if (matches(e, get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Helper method: checks if objects a and b are equal both ways.
+     */
+    private static boolean matches(Object a, Object b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.equals(b) && b.equals(a);
+    }
+
+    /**
+     * Checks if the object is in the list using the hash index.
+     * @param e the object to find
+     * @return true if the object is in the list, false otherwise
+     */
+    @Override
+    public boolean contains(E e) {
+        return index.containsKey(new Key(e));
+    }
+
+    /**
+     * Finds the index of the first occurrence of object e using the hash index.
+     * @param e, finding the index of this object
+     * @return the index of e, -1 otherwise
+     */
+    @Override
+    public int indexOf(E e) {
+        Position position = index.get(new Key(e));
+        return position == null ? -1 : position.first;
+    }
+
+    /**
+     * Adds the object to the end of the list and indexes it.
+     * @param e the object to add
+     */
+    @Override
+    public void add(E e) {
+        super.add(e);
+        link(e, size() - 1);
+    }
+
+    /**
+     * Appends and indexes every object of the other list.
+     * @param other the list of objects to add
+     */
+    @Override
+    public void addAll(List<? extends E> other) {
+        ensureCapacity(size() + other.size());
+        for (int i = 0; i < other.size(); i++) {
+            add(other.get(i));
+        }
+    }
+
+    /**
+     * Sets the Object e at index, updating the index of both the replaced object and e.
+     * @param index, index to set object at
+     * @param e, the object to be set in index
+     */
+    @Override
+    public void set(int index, E e) {
+        E old = get(index);
+        super.set(index, e);
+        if (old == e) {
+            return;
+        }
+        unlink(old, index);
+        link(e, index);
+    }
+
+    /**
+     * Replaces every object of the list and rebuilds the index once,
+     * instead of updating it for each position as set would.
+     * @param elements the objects to hold
+     */
+    @Override
+    public void setAll(E[] elements) {
+        super.setAll(elements);
+        index.clear();
+        for (int i = 0; i < elements.length; i++) {
+            link(elements[i], i);
+        }
+    }
+
+    /**
+     * Removes the object at index, shifting every element after it to the left by 1
+     * and moving their indexed positions with them.
+     * @param index the index of the object to remove
+     * @return the removed object
+     */
+    @Override
+    public E removeAt(int index) {
+        E removed = super.removeAt(index);
+        for (int i = index; i < size(); i++) {
+            Position position = this.index.get(new Key(get(i)));
+            if (position.first == i + 1) {
+                position.first = i;
+            }
+        }
+        unlink(removed, index);
+        return removed;
+    }
+}
@@ -19,21 +19,59 @@ public class List<E> implements Iterable<E> {
      * Constructor that initializes the appointments array to size 4 and size to 0.
      */
     public List() {
-        this.objects = (E[]) new Object[INITIAL_CAPACITY];
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor that pre-sizes the objects array, so that a list whose final size
+     * is known up front (e.g. a bulk import) never has to grow.
+     * @param initialCapacity the number of objects the list can hold before growing
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public List(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.objects = (E[]) new Object[initialCapacity];
         size = 0;
     }
 
     /**
-     * This helper method grows the size of the array by 4.
+     * This helper method grows the array to at least minCapacity.
+     * The capacity is doubled each time, so adding n objects costs amortized O(1) per add.
+     * @param minCapacity the minimum capacity required
      */
-    private void grow() {
-        E[] newArray = (E[])new Object[objects.length + INITIAL_CAPACITY];
-        for(int i =0; i<size;i++){
-            newArray[i] = objects[i];
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(objects.length * 2, INITIAL_CAPACITY);
+        if (newCapacity < minCapacity) {
+            newCapacity = minCapacity;
         }
+        E[] newArray = (E[]) new Object[newCapacity];
+        System.arraycopy(objects, 0, newArray, 0, size);
         objects = newArray;
     }
 
+    /**
+     * Makes sure the objects array can hold at least minCapacity objects without growing.
+     * @param minCapacity the minimum capacity required
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > objects.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Shrinks the objects array to the current size of the list.
+     */
+    public void trimToSize() {
+        if (size < objects.length) {
+            E[] newArray = (E[]) new Object[size];
+            System.arraycopy(objects, 0, newArray, 0, size);
+            objects = newArray;
+        }
+    }
+
     /**
      * This helper method finds a specific object in the array.
      * @param e the objects to find
@@ -54,12 +92,24 @@ public class List<E> implements Iterable<E> {
      */
     public void add(E e) {
         if (size == objects.length) {
-            grow();
+            grow(size + 1);
         }
         objects[size] = e;
         size++;
     }
 
+    /**
+     * Appends every object of the other list to the end of this list,
+     * growing the array at most once.
+     * @param other the list of objects to add
+     */
+    public void addAll(List<? extends E> other) {
+        int count = other.size;
+        ensureCapacity(size + count);
+        System.arraycopy(other.objects, 0, objects, size, count);
+        size += count;
+    }
+
     /**
      * Removes the specified object from the objects array,
      * shifting every element after the removed element to the left by 1.
@@ -68,11 +118,28 @@ public class List<E> implements Iterable<E> {
     public void remove(E e) {
         int index = indexOf(e);
         if (index != -1) {
-            for (int i = index; i < size - 1; i++) {
-                objects[i] = objects[i + 1];
-            }
-            objects[--size] = null;
+            removeAt(index);
+        }
+    }
+
+    /**
+     * Removes the object at the specified index, shifting every element after it
+     * to the left by 1. Removing the last object does not shift anything.
+     * @param index the index of the object to remove
+     * @return the removed object
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public E removeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        E removed = objects[index];
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(objects, index + 1, objects, index, moved);
         }
+        objects[--size] = null;
+        return removed;
     }
 
     /**
@@ -127,6 +194,30 @@ public class List<E> implements Iterable<E> {
         objects[index] = e;
     }
 
+    /**
+     * Returns a new array holding the objects of the list in order.
+     * @return an array of size() objects
+     */
+    public Object[] toArray() {
+        Object[] copy = new Object[size];
+        System.arraycopy(objects, 0, copy, 0, size);
+        return copy;
+    }
+
+    /**
+     * Replaces every object of the list, in order, with the objects of the array.
+     * The size of the list becomes the length of the array.
+     * @param elements the objects to hold
+     */
+    public void setAll(E[] elements) {
+        ensureCapacity(elements.length);
+        System.arraycopy(elements, 0, objects, 0, elements.length);
+        for (int i = elements.length; i < size; i++) {
+            objects[i] = null;
+        }
+        size = elements.length;
+    }
+
     /**
      * Checks which index object e is at
      * @param e, finding the index of this object
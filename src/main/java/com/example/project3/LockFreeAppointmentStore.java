@@ -0,0 +1,198 @@
+package com.example.project3;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The LockFreeAppointmentStore class holds appointments booked by several threads at once,
+ * like ConcurrentAppointmentStore, but without locks.
+ * The booked slots of every provider and imaging room on every day of a window are words of
+ * AtomicDayMasks. A booking claims the provider's slot bit with a compare-and-set, then the
+ * room's bit for imaging, then the patient's primary key with putIfAbsent; if a later step
+ * fails, the bits already claimed are cleared again, also with compare-and-set.
+ * A booking may therefore find a slot held for a moment by a booking that is rolling back,
+ * and report it unavailable; a slot is never booked twice.
+ * The providers are fixed when the store is created. A provider is found by its ProviderKey,
+ * so a Technician and a Doctor with the same profile, or two such Doctors, keep separate slots.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class LockFreeAppointmentStore implements AppointmentStore {
+
+    private static final int ROOM_TYPES = Radiology.values().length;
+
+    private final ConcurrentHashMap<AppointmentIndex.Key, Appointment> appointments = new ConcurrentHashMap<>();
+    private final HashMap<ProviderKey, Integer> providerPositions = new HashMap<>(); // read-only once built
+    private final AtomicDayMasks providerSlots;
+    private final AtomicDayMasks roomSlots;
+
+    /**
+     * Constructor that creates an empty store for the providers and a window of days.
+     *
+     * @param providers the providers that can be booked
+     * @param firstDay the first day that can be booked
+     * @param days the number of days that can be booked
+     */
+    public LockFreeAppointmentStore(List<Provider> providers, Date firstDay, int days) {
+        for (Provider provider : providers) {
+            providerPositions.putIfAbsent(new ProviderKey(provider), providerPositions.size());
+        }
+        providerSlots = new AtomicDayMasks(providerPositions.size(), firstDay.toEpochDay(), days);
+        roomSlots = new AtomicDayMasks(Location.values().length * ROOM_TYPES, firstDay.toEpochDay(), days);
+    }
+
+    /**
+     * Books an appointment with its provider. An Imaging appointment also books the room
+     * of its type at the technician's location.
+     *
+     * @param appt the appointment to book, with its provider set
+     * @return BOOKED, or DUPLICATE if the patient is booked at the time,
+     * PROVIDER_UNAVAILABLE if the provider is, or ROOM_UNAVAILABLE if the room is.
+     * @throws IllegalArgumentException if the provider is not in the store or the date is outside the window.
+     */
+    @Override
+    public SchedulingResult.Status book(Appointment appt) {
+        Provider provider = AppointmentStores.providerOf(appt);
+        int position = positionOf(provider);
+        int day = appt.getDate().toEpochDay();
+        long bit = AvailabilityIndex.slotBit(appt.getTimeslot());
+        AppointmentIndex.Key key = new AppointmentIndex.Key(appt.getDate(), appt.getTimeslot(), appt.getProfile());
+        if (appointments.containsKey(key)) {
+            return SchedulingResult.Status.DUPLICATE;
+        }
+        if (!providerSlots.trySet(position, day, bit)) {
+            return SchedulingResult.Status.PROVIDER_UNAVAILABLE;
+        }
+        int room = -1;
+        if (appt instanceof Imaging) {
+            room = roomOf(provider.getLocation(), ((Imaging) appt).getRoom());
+            if (!roomSlots.trySet(room, day, bit)) {
+                providerSlots.clear(position, day, bit); // roll back
+                return SchedulingResult.Status.ROOM_UNAVAILABLE;
+            }
+        }
+        if (appointments.putIfAbsent(key, appt) != null) {
+            if (room >= 0) {
+                roomSlots.clear(room, day, bit);
+            }
+            providerSlots.clear(position, day, bit);
+            return SchedulingResult.Status.DUPLICATE;
+        }
+        return SchedulingResult.Status.BOOKED;
+    }
+
+    /**
+     * Removes the appointment equal to appt, freeing its provider and room.
+     * @param appt the appointment to remove
+     * @return the removed appointment, or null if none is booked
+     */
+    @Override
+    public Appointment remove(Appointment appt) {
+        AppointmentIndex.Key key = new AppointmentIndex.Key(appt.getDate(), appt.getTimeslot(), appt.getProfile());
+        while (true) {
+            Appointment stored = appointments.get(key);
+            if (stored == null) {
+                return null;
+            }
+            if (AppointmentStores.removeExactly(appointments, key, stored)) {
+                Provider provider = AppointmentStores.providerOf(stored);
+                int day = stored.getDate().toEpochDay();
+                long bit = AvailabilityIndex.slotBit(stored.getTimeslot());
+                if (stored instanceof Imaging) {
+                    roomSlots.clear(roomOf(provider.getLocation(), ((Imaging) stored).getRoom()), day, bit);
+                }
+                providerSlots.clear(positionOf(provider), day, bit);
+                return stored;
+            }
+        }
+    }
+
+    /**
+     * Returns the booked appointment of the patient at the date and timeslot.
+     *
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     * @param patient the patient, or any Person with the patient's profile
+     * @return the booked appointment, or null if none is booked
+     */
+    @Override
+    public Appointment find(Date date, Timeslot timeslot, Person patient) {
+        return appointments.get(new AppointmentIndex.Key(date, timeslot, patient));
+    }
+
+    /**
+     * Checks if an appointment equal to appt is booked.
+     * @param appt the appointment to find
+     * @return true if found, false otherwise
+     */
+    @Override
+    public boolean contains(Appointment appt) {
+        return find(appt.getDate(), appt.getTimeslot(), appt.getProfile()) != null;
+    }
+
+    /**
+     * Checks whether the provider has no appointment at the date and timeslot.
+     *
+     * @param provider the provider
+     * @param date the date
+     * @param timeslot the timeslot
+     * @return true if the provider is free, false otherwise
+     * @throws IllegalArgumentException if the provider is not in the store or the date is outside the window.
+     */
+    @Override
+    public boolean isProviderFree(Provider provider, Date date, Timeslot timeslot) {
+        return (providerSlots.get(positionOf(provider), date.toEpochDay()) & AvailabilityIndex.slotBit(timeslot)) == 0;
+    }
+
+    /**
+     * Checks whether the room of the location has no appointment at the date and timeslot.
+     *
+     * @param location the location of the room
+     * @param room the type of the room
+     * @param date the date
+     * @param timeslot the timeslot
+     * @return true if the room is free, false otherwise
+     * @throws IllegalArgumentException if the date is outside the window.
+     */
+    @Override
+    public boolean isRoomFree(Location location, Radiology room, Date date, Timeslot timeslot) {
+        return (roomSlots.get(roomOf(location, room), date.toEpochDay()) & AvailabilityIndex.slotBit(timeslot)) == 0;
+    }
+
+    /**
+     * Getter method that returns the number of booked appointments.
+     * @return the number of appointments
+     */
+    @Override
+    public int size() {
+        return appointments.size();
+    }
+
+    /**
+     * Returns an iterator over the booked appointments, in no particular order.
+     * The iterator does not fail when other threads book or remove appointments meanwhile.
+     * @return the iterator
+     */
+    @Override
+    public Iterator<Appointment> iterator() {
+        return appointments.values().iterator();
+    }
+
+    /**
+     * Helper method: returns the resource number of a provider.
+     */
+    private int positionOf(Provider provider) {
+        Integer position = providerPositions.get(new ProviderKey(provider));
+        if (position == null) {
+            throw new IllegalArgumentException(provider + " is not a provider of the store.");
+        }
+        return position;
+    }
+
+    /**
+     * Helper method: returns the resource number of a room.
+     */
+    private static int roomOf(Location location, Radiology room) {
+        return location.ordinal() * ROOM_TYPES + room.ordinal();
+    }
+}
@@ -63,6 +63,16 @@ public class Person implements Comparable<Person>{
         return false;
     }
 
+    /**
+     * Returns a hash code consistent with equals, based on the profile.
+     *
+     * @return the hash code of the profile, or 0 if there is no profile
+     */
+    @Override
+    public int hashCode() {
+        return profile == null ? 0 : profile.hashCode();
+    }
+
     /**
      * Returns a string representation of the Person object.
      * The string is generated by calling the toString method of the profile instance variable.
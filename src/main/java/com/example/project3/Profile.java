@@ -84,6 +84,37 @@ public class Profile implements Comparable<Profile> {
                 dob.equals(profile.dob);
     }
 
+    /**
+     * Returns a hash code consistent with equals. Since names are compared ignoring case,
+     * the names are hashed ignoring case as well.
+     *
+     * @return the hash code of the current profile
+     */
+    @Override
+    public int hashCode() {
+        int result = hashIgnoreCase(fname);
+        result = 31 * result + hashIgnoreCase(lname);
+        return 31 * result + (dob == null ? 0 : dob.hashCode());
+    }
+
+    /**
+     * Helper method: hashes a name the same way for any letter case,
+     * folding each character like String.equalsIgnoreCase does.
+     *
+     * @param name the name to hash
+     * @return the case-insensitive hash code of the name
+     */
+    private static int hashIgnoreCase(String name) {
+        if (name == null) {
+            return 0;
+        }
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return hash;
+    }
+
     /**
      * Compares this Profile instance with another Profile instance for order first by last name,
      * then by first name, and finally by date of birth.
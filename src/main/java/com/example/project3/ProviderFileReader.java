@@ -0,0 +1,289 @@
+package com.example.project3;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The ProviderFileReader class parses a providers file straight from a memory-mapped buffer.
+ * Each line is split into fields in place, without regular expressions, and the
+ * Profile, Date, Location and Specialty of each provider are built directly from the bytes.
+ * Only the name and NPI fields are copied into Strings.
+ * It accepts the same format as providers.txt:
+ * D fname lname dob location specialty npi, or T fname lname dob location rate.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class ProviderFileReader {
+
+    private static final int MAX_TOKENS = 7;
+    private static final Location[] LOCATIONS = Location.values();
+    private static final Specialty[] SPECIALTIES = Specialty.values();
+
+    private final ByteBuffer buffer;
+    private final int[] tokenStart = new int[MAX_TOKENS];
+    private final int[] tokenEnd = new int[MAX_TOKENS];
+    private final int[] dateParts = new int[3];
+    private byte[] scratch = new byte[64];
+
+    /**
+     * The providers parsed from a range of lines, with the number of lines read and skipped.
+     */
+    public static class Chunk {
+        private final List<Provider> providers = new List<>();
+        private int lineCount;
+        private int skippedLines;
+
+        /**
+         * Returns the parsed providers, in the order of their lines.
+         * @return the list of providers
+         */
+        public List<Provider> getProviders() {
+            return providers;
+        }
+
+        /**
+         * Returns the number of non-empty lines read.
+         * @return the number of lines
+         */
+        public int getLineCount() {
+            return lineCount;
+        }
+
+        /**
+         * Returns the number of lines that were not valid provider lines.
+         * @return the number of skipped lines
+         */
+        public int getSkippedLines() {
+            return skippedLines;
+        }
+    }
+
+    /**
+     * Constructor that reads providers from the buffer.
+     * The buffer is only read with absolute gets, so readers may share it.
+     * @param buffer the bytes of a providers file
+     */
+    public ProviderFileReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Maps a whole file into memory, read-only.
+     *
+     * @param file the file to map
+     * @return the mapped bytes of the file
+     * @throws IOException if the file cannot be opened, or is larger than 2 GB
+     */
+    public static ByteBuffer map(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(file + " is too large to map.");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Parses every line of the buffer.
+     * @return the parsed providers
+     */
+    public Chunk parse() {
+        return parse(0, buffer.limit());
+    }
+
+    /**
+     * Parses the lines in bytes [start, end) of the buffer.
+     * The range must begin at the start of a line and end at the end of a line.
+     *
+     * @param start the index of the first byte
+     * @param end the index after the last byte
+     * @return the parsed providers
+     */
+    public Chunk parse(int start, int end) {
+        Chunk chunk = new Chunk();
+        int lineStart = start;
+        while (lineStart < end) {
+            int lineEnd = lineStart;
+            while (lineEnd < end && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int tokens = tokenize(lineStart, lineEnd);
+            if (tokens > 0) {
+                chunk.lineCount++;
+                Provider provider = parseProvider(tokens);
+                if (provider == null) {
+                    chunk.skippedLines++;
+                } else {
+                    chunk.providers.add(provider);
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        return chunk;
+    }
+
+    /**
+     * Helper method: finds the whitespace-separated fields of a line.
+     * @return the number of fields found, at most MAX_TOKENS
+     */
+    private int tokenize(int lineStart, int lineEnd) {
+        int count = 0;
+        int i = lineStart;
+        while (i < lineEnd && count < MAX_TOKENS) {
+            while (i < lineEnd && isWhitespace(buffer.get(i))) {
+                i++;
+            }
+            if (i == lineEnd) {
+                break;
+            }
+            tokenStart[count] = i;
+            while (i < lineEnd && !isWhitespace(buffer.get(i))) {
+                i++;
+            }
+            tokenEnd[count++] = i;
+        }
+        return count;
+    }
+
+    /**
+     * Helper method: checks for the whitespace characters matched by \s, other than a line feed.
+     */
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+
+    /**
+     * Helper method: builds a provider from the fields of the current line.
+     * @return the provider, or null if the fields do not form a valid provider line
+     */
+    private Provider parseProvider(int tokens) {
+        if (tokens < 6 || tokenEnd[0] - tokenStart[0] != 1) {
+            return null;
+        }
+        byte type = buffer.get(tokenStart[0]);
+        if (type != 'D' && type != 'T' || type == 'D' && tokens < 7) {
+            return null;
+        }
+        Date dob = parseDate(tokenStart[3], tokenEnd[3]);
+        Location location = (Location) match(LOCATIONS, 4, false);
+        if (dob == null || location == null) {
+            return null;
+        }
+        Profile profile = new Profile(string(1), string(2), dob);
+        if (type == 'D') {
+            Specialty specialty = (Specialty) match(SPECIALTIES, 5, true);
+            return specialty == null ? null : new Doctor(profile, location, specialty, string(6));
+        }
+        long rate = parseNumber(tokenStart[5], tokenEnd[5]);
+        return rate == Long.MIN_VALUE ? null : new Technician(profile, location, (int) rate);
+    }
+
+    /**
+     * Helper method: parses a date in the form M/D/YYYY or YYYY-MM-DD from bytes [start, end).
+     * @return the date, or null if the field is not a date
+     */
+    private Date parseDate(int start, int end) {
+        byte separator = 0;
+        int[] parts = dateParts;
+        parts[0] = parts[1] = parts[2] = 0;
+        int part = 0;
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                if (++digits > 9) {
+                    return null;
+                }
+                parts[part] = parts[part] * 10 + (b - '0');
+            } else if ((b == '/' || b == '-') && (separator == 0 || separator == b) && digits > 0 && part < 2) {
+                separator = b;
+                part++;
+                digits = 0;
+            } else {
+                return null;
+            }
+        }
+        if (part != 2 || digits == 0) {
+            return null;
+        }
+        return separator == '/' ? Date.of(parts[0], parts[1], parts[2]) : Date.of(parts[1], parts[2], parts[0]);
+    }
+
+    /**
+     * Helper method: parses a whole number with an optional sign from bytes [start, end).
+     * @return the number, or Long.MIN_VALUE if the field is not an int
+     */
+    private long parseNumber(int start, int end) {
+        boolean negative = false;
+        int i = start;
+        if (buffer.get(i) == '-' || buffer.get(i) == '+') {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+        if (i == end) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b < '0' || b > '9') {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + (b - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                return Long.MIN_VALUE;
+            }
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE ? Long.MIN_VALUE : value;
+    }
+
+    /**
+     * Helper method: finds the enum constant whose name matches a field, without copying it.
+     * @param ignoreCase true to match letters in any case
+     * @return the matching constant, or null if none matches
+     */
+    private Enum<?> match(Enum<?>[] constants, int token, boolean ignoreCase) {
+        int start = tokenStart[token];
+        int length = tokenEnd[token] - start;
+        for (Enum<?> constant : constants) {
+            String name = constant.name();
+            if (name.length() != length) {
+                continue;
+            }
+            int i = 0;
+            while (i < length) {
+                int b = buffer.get(start + i);
+                if (ignoreCase && b >= 'a' && b <= 'z') {
+                    b -= 'a' - 'A';
+                }
+                if (b != name.charAt(i)) {
+                    break;
+                }
+                i++;
+            }
+            if (i == length) {
+                return constant;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Helper method: copies a field into a String.
+     */
+    private String string(int token) {
+        int start = tokenStart[token];
+        int length = tokenEnd[token] - start;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+}
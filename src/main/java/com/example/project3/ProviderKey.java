@@ -0,0 +1,68 @@
+package com.example.project3;
+
+import java.util.Objects;
+
+/**
+ * The ProviderKey class is the hash key of a provider in the availability indexes:
+ * its class and its profile, and for a Doctor also its location, specialty and NPI,
+ * the same fields Doctor.equals compares. Person.equals alone matches a Technician
+ * with a Doctor of the same profile, and two Doctors of the same profile with
+ * different NPIs, so keying by the Person would let them share booked timeslots.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+final class ProviderKey {
+
+    private final Class<?> type;
+    private final Profile profile;
+    private final Location location; // the fields below are null unless the provider is a Doctor
+    private final Specialty specialty;
+    private final String npi;
+
+    /**
+     * Constructor that creates the key of a provider.
+     * @param provider the provider, or any Person of the same class with its profile
+     *                 (and, for a Doctor, with its location, specialty and NPI)
+     */
+    ProviderKey(Person provider) {
+        this.type = provider.getClass();
+        this.profile = provider.getProfile();
+        if (provider instanceof Doctor) {
+            Doctor doctor = (Doctor) provider;
+            this.location = doctor.getLocation();
+            this.specialty = doctor.getSpecialty();
+            this.npi = doctor.getNPI();
+        } else {
+            this.location = null;
+            this.specialty = null;
+            this.npi = null;
+        }
+    }
+
+    /**
+     * Checks if another key is of the same class and an equal profile,
+     * and for a Doctor of the same location, specialty and NPI.
+     *
+     * @param obj the object to compare to
+     * @return true if the keys are equal, false otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ProviderKey)) {
+            return false;
+        }
+        ProviderKey other = (ProviderKey) obj;
+        return type == other.type && profile.equals(other.profile) && location == other.location
+                && specialty == other.specialty && Objects.equals(npi, other.npi);
+    }
+
+    /**
+     * Returns a hash code consistent with equals.
+     *
+     * @return the hash code of the class, the profile and the NPI
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * type.hashCode() + profile.hashCode()) + Objects.hashCode(npi);
+    }
+}
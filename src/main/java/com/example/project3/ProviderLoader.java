@@ -0,0 +1,315 @@
+package com.example.project3;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The ProviderLoader class loads a whole providers file in one pass over the mapped file.
+ * Duplicate providers are dropped with a hash lookup on the provider's profile,
+ * and the providers are sorted once at the end instead of after every line.
+ * Technicians are also kept in the order they appear in the file, for the rotation list.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class ProviderLoader {
+
+    /**
+     * Files are not split into chunks smaller than this many bytes.
+     */
+    private static final int MIN_CHUNK_BYTES = 1 << 16;
+
+    private final HashMap<Profile, List<Provider>> providersByProfile = new HashMap<>();
+    private final List<Provider> providers = new List<>();
+    private final List<Technician> technicians = new List<>();
+    private int lineCount;
+    private int skippedLines;
+    private long elapsedNanos;
+    private int parallelThreshold = 1 << 20;
+    private volatile ProgressListener progressListener;
+    private volatile boolean cancelled;
+
+    /**
+     * Listens to the progress of a load.
+     */
+    public interface ProgressListener {
+        /**
+         * Called after a part of the file has been parsed.
+         * @param parsedBytes the number of bytes parsed so far
+         * @param totalBytes the size of the file
+         */
+        void progress(long parsedBytes, long totalBytes);
+    }
+
+    /**
+     * Loads every provider of the file.
+     * The file is memory-mapped and parsed in place by a ProviderFileReader;
+     * files larger than the parallel threshold are parsed in chunks on the common pool.
+     *
+     * @param file the providers file
+     * @throws IOException if the file cannot be opened or read
+     */
+    public void load(File file) throws IOException {
+        load(file, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads every provider of the file, parsing large files in chunks on the pool.
+     * The chunks are split at line boundaries and merged in file order, so duplicates
+     * and the technician order are the same as when the file is parsed in one pass.
+     *
+     * @param file the providers file
+     * @param pool the pool that parses the chunks
+     * @throws IOException if the file cannot be opened or read
+     * @throws CancellationException if the loader is cancelled before the load ends
+     */
+    public void load(File file, ForkJoinPool pool) throws IOException {
+        long start = System.nanoTime();
+        ByteBuffer buffer = ProviderFileReader.map(file);
+        if (buffer.limit() > parallelThreshold) {
+            int[] bounds = chunkBounds(buffer, Math.max(MIN_CHUNK_BYTES, buffer.limit() / (pool.getParallelism() * 4)));
+            ProviderFileReader.Chunk[] chunks = new ProviderFileReader.Chunk[bounds.length - 1];
+            pool.invoke(new ParseTask(this, buffer, bounds, chunks, 0, chunks.length, new AtomicLong()));
+            checkCancelled();
+            for (ProviderFileReader.Chunk chunk : chunks) {
+                addAll(chunk);
+            }
+        } else {
+            // Parsed chunk by chunk, so progress is reported and cancelling is noticed during the pass
+            int[] bounds = chunkBounds(buffer, MIN_CHUNK_BYTES);
+            ProviderFileReader reader = new ProviderFileReader(buffer);
+            for (int i = 0; i < bounds.length - 1; i++) {
+                checkCancelled();
+                addAll(reader.parse(bounds[i], bounds[i + 1]));
+                reportProgress(bounds[i + 1], buffer.limit());
+            }
+        }
+        checkCancelled();
+        Sort.provider(providers);
+        elapsedNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Sets the listener told how much of the file has been parsed.
+     * When the file is parsed in parallel, the listener is called from the pool's threads.
+     * @param listener the listener, or null for none
+     */
+    public void setProgressListener(ProgressListener listener) {
+        this.progressListener = listener;
+    }
+
+    /**
+     * Asks a load in progress, on any thread, to stop.
+     * The load then throws a CancellationException, and the loaded providers are incomplete.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Checks if the loader was cancelled.
+     * @return true if cancelled, false otherwise
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Helper method: stops the load if the loader was cancelled.
+     * @throws CancellationException if the loader was cancelled
+     */
+    private void checkCancelled() {
+        if (cancelled) {
+            throw new CancellationException("Loading providers was cancelled.");
+        }
+    }
+
+    /**
+     * Helper method: tells the progress listener, if any, how many bytes have been parsed.
+     */
+    private void reportProgress(long parsedBytes, long totalBytes) {
+        ProgressListener listener = progressListener;
+        if (listener != null) {
+            listener.progress(parsedBytes, totalBytes);
+        }
+    }
+
+    /**
+     * Returns the file size, in bytes, above which files are parsed in parallel.
+     * @return the parallel threshold
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the file size, in bytes, above which files are parsed in parallel.
+     * @param threshold the new parallel threshold
+     * @throws IllegalArgumentException if the threshold is negative
+     */
+    public void setParallelThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Illegal parallel threshold: " + threshold);
+        }
+        parallelThreshold = threshold;
+    }
+
+    /**
+     * Helper method: splits the buffer into chunks of about chunkSize bytes,
+     * moving each split forward to the start of the next line.
+     * @return the chunk boundaries, starting with 0 and ending with the buffer size
+     */
+    private static int[] chunkBounds(ByteBuffer buffer, int chunkSize) {
+        int size = buffer.limit();
+        List<Integer> bounds = new List<>(size / chunkSize + 2);
+        int bound = 0;
+        bounds.add(bound);
+        while (bound < size) {
+            bound = (int) Math.min(size, (long) bound + chunkSize);
+            while (bound < size && buffer.get(bound - 1) != '\n') {
+                bound++;
+            }
+            bounds.add(bound);
+        }
+        int[] result = new int[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * A fork/join task that parses chunks [low, high) of the buffer,
+     * splitting the range in half until it holds one chunk.
+     */
+    private static class ParseTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        // tasks are never serialized
+        private final transient ProviderLoader loader;
+        private final transient ByteBuffer buffer;
+        private final int[] bounds;
+        private final transient ProviderFileReader.Chunk[] chunks;
+        private final int low;
+        private final int high;
+        private final AtomicLong parsedBytes;
+
+        ParseTask(ProviderLoader loader, ByteBuffer buffer, int[] bounds, ProviderFileReader.Chunk[] chunks,
+                  int low, int high, AtomicLong parsedBytes) {
+            this.loader = loader;
+            this.buffer = buffer;
+            this.bounds = bounds;
+            this.chunks = chunks;
+            this.low = low;
+            this.high = high;
+            this.parsedBytes = parsedBytes;
+        }
+
+        @Override
+        protected void compute() {
+            if (loader.cancelled) {
+                return;
+            }
+            if (high - low == 1) {
+                chunks[low] = new ProviderFileReader(buffer).parse(bounds[low], bounds[high]);
+                loader.reportProgress(parsedBytes.addAndGet(bounds[high] - bounds[low]), buffer.limit());
+                return;
+            }
+            int mid = (low + high) >>> 1;
+            invokeAll(new ParseTask(loader, buffer, bounds, chunks, low, mid, parsedBytes),
+                    new ParseTask(loader, buffer, bounds, chunks, mid, high, parsedBytes));
+        }
+    }
+
+    /**
+     * Helper method: adds the providers of a parsed chunk in order, and counts its lines.
+     * @param chunk the providers parsed from part of a file
+     */
+    private void addAll(ProviderFileReader.Chunk chunk) {
+        lineCount += chunk.getLineCount();
+        skippedLines += chunk.getSkippedLines();
+        for (Provider provider : chunk.getProviders()) {
+            addProvider(provider);
+        }
+    }
+
+    /**
+     * Adds the provider unless an equal provider was already loaded.
+     * Providers with the same profile are found with one hash lookup, and the provider
+     * is a duplicate if any of them equals it, like List.contains on the loaded providers.
+     *
+     * @param provider the provider to add
+     * @return true if added, false if it is a duplicate
+     */
+    public boolean addProvider(Provider provider) {
+        List<Provider> sameProfile = providersByProfile.get(provider.getProfile());
+        if (sameProfile == null) {
+            sameProfile = new List<>(1);
+            providersByProfile.put(provider.getProfile(), sameProfile);
+        } else {
+            for (Provider existing : sameProfile) {
+                if (existing.equals(provider)) {
+                    return false;
+                }
+            }
+        }
+        sameProfile.add(provider);
+        providers.add(provider);
+        if (provider instanceof Technician) {
+            technicians.add((Technician) provider);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the loaded providers, sorted by last name then date of birth.
+     * @return the list of providers
+     */
+    public List<Provider> getProviders() {
+        return providers;
+    }
+
+    /**
+     * Returns the loaded technicians, in the order they appear in the file.
+     * @return the list of technicians
+     */
+    public List<Technician> getTechnicians() {
+        return technicians;
+    }
+
+    /**
+     * Returns the number of non-empty lines read.
+     * @return the number of lines
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Returns the number of lines that were not valid provider lines.
+     * @return the number of skipped lines
+     */
+    public int getSkippedLines() {
+        return skippedLines;
+    }
+
+    /**
+     * Returns the time spent loading, in milliseconds.
+     * @return the elapsed time in milliseconds
+     */
+    public double getElapsedMillis() {
+        return elapsedNanos / 1e6;
+    }
+
+    /**
+     * Returns the loading throughput.
+     * @return the number of lines loaded per second
+     */
+    public double getLinesPerSecond() {
+        return elapsedNanos == 0 ? 0 : lineCount * 1e9 / elapsedNanos;
+    }
+}
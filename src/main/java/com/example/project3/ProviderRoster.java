@@ -0,0 +1,43 @@
+package com.example.project3;
+
+/**
+ * The ProviderRoster class holds a sorted provider list and the technician rotation list
+ * merged from the providers of a SchedulingService and newly loaded providers.
+ * A roster is built by SchedulingService.mergeProviders without changing the service,
+ * so the merge and sort can run on a background thread, and is then set on the
+ * service in one step with SchedulingService.setProviders.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class ProviderRoster {
+
+    private final List<Provider> providers;
+    private final List<Technician> techRotationList;
+
+    /**
+     * Constructor that creates a roster from merged lists.
+     *
+     * @param providers the providers, sorted and without duplicates
+     * @param techRotationList the technicians in rotation order
+     */
+    public ProviderRoster(List<Provider> providers, List<Technician> techRotationList) {
+        this.providers = providers;
+        this.techRotationList = techRotationList;
+    }
+
+    /**
+     * Getter method that returns the sorted providers of the roster.
+     * @return the provider list
+     */
+    public List<Provider> getProviders() {
+        return providers;
+    }
+
+    /**
+     * Getter method that returns the technicians of the roster in rotation order.
+     * @return the technician rotation list
+     */
+    public List<Technician> getTechRotationList() {
+        return techRotationList;
+    }
+}
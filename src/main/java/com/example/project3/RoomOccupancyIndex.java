@@ -0,0 +1,91 @@
+package com.example.project3;
+import java.util.Arrays;
+
+/**
+ * The RoomOccupancyIndex class keeps, for every imaging room of every location,
+ * a bitmask of the booked timeslots of each day, so checking a room is one bit test.
+ * Each location has one room of each Radiology type; a room is only booked on the
+ * day of its appointment.
+ * The index must be told about every imaging appointment that is booked or removed.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class RoomOccupancyIndex {
+
+    private static final int ROOM_TYPES = Radiology.values().length;
+
+    private final DayMasks[] rooms = new DayMasks[Location.values().length * ROOM_TYPES];
+
+    /**
+     * Checks whether the room of the location has no appointment at the date and timeslot.
+     *
+     * @param location the location of the room
+     * @param room the type of the room
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     * @return true if the room is free, false otherwise
+     */
+    public boolean isFree(Location location, Radiology room, Date date, Timeslot timeslot) {
+        return (getMask(location, room, date) & AvailabilityIndex.slotBit(timeslot)) == 0;
+    }
+
+    /**
+     * Returns the booked timeslots of the room of the location on the date.
+     *
+     * @param location the location of the room
+     * @param room the type of the room
+     * @param date the date
+     * @return the mask of booked slots, bit (slot number - 1) set for each booked slot
+     */
+    public int getMask(Location location, Radiology room, Date date) {
+        DayMasks days = rooms[roomIndex(location, room)];
+        return days == null ? 0 : days.get(date.toEpochDay());
+    }
+
+    /**
+     * Marks the room of the location as booked at the date and timeslot.
+     *
+     * @param location the location of the room
+     * @param room the type of the room
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     * @return true if the room was free, false if already booked at that time
+     */
+    public boolean book(Location location, Radiology room, Date date, Timeslot timeslot) {
+        int bit = AvailabilityIndex.slotBit(timeslot);
+        int i = roomIndex(location, room);
+        if (rooms[i] == null) {
+            rooms[i] = new DayMasks();
+        }
+        return (rooms[i].set(date.toEpochDay(), bit) & bit) == 0;
+    }
+
+    /**
+     * Marks the room of the location as free at the date and timeslot.
+     *
+     * @param location the location of the room
+     * @param room the type of the room
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     * @return true if the room was booked, false if already free at that time
+     */
+    public boolean release(Location location, Radiology room, Date date, Timeslot timeslot) {
+        int bit = AvailabilityIndex.slotBit(timeslot);
+        DayMasks days = rooms[roomIndex(location, room)];
+        return days != null && (days.clear(date.toEpochDay(), bit) & bit) != 0;
+    }
+
+    /**
+     * Removes every booking from the index.
+     */
+    public void clear() {
+        Arrays.fill(rooms, null);
+    }
+
+    /**
+     * Helper method: returns the position of a room in the rooms array.
+     */
+    private static int roomIndex(Location location, Radiology room) {
+        return location.ordinal() * ROOM_TYPES + room.ordinal();
+    }
+}
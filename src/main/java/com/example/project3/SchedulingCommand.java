@@ -0,0 +1,151 @@
+package com.example.project3;
+
+/**
+ * The SchedulingCommand class is one request to the SchedulingService:
+ * schedule an office or imaging appointment, reschedule an appointment to another
+ * timeslot on the same day, or cancel an appointment.
+ * Commands are immutable and are created with the static factory methods.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class SchedulingCommand {
+
+    /**
+     * The kinds of commands, matching the actions of the Home tab.
+     */
+    public enum Type {
+        SCHEDULE_OFFICE,
+        SCHEDULE_IMAGING,
+        RESCHEDULE,
+        CANCEL
+    }
+
+    private final Type type;
+    private final Date date;
+    private final Timeslot timeslot;
+    private final Profile patient;
+    private final Provider provider;
+    private final Radiology room;
+    private final Timeslot newTimeslot;
+
+    /**
+     * Helper constructor used by the factory methods.
+     */
+    private SchedulingCommand(Type type, Date date, Timeslot timeslot, Profile patient,
+                              Provider provider, Radiology room, Timeslot newTimeslot) {
+        this.type = type;
+        this.date = date;
+        this.timeslot = timeslot;
+        this.patient = patient;
+        this.provider = provider;
+        this.room = room;
+        this.newTimeslot = newTimeslot;
+    }
+
+    /**
+     * Creates a command to schedule an office appointment with a provider.
+     *
+     * @param date the appointment date
+     * @param timeslot the appointment timeslot
+     * @param patient the patient's profile
+     * @param provider the provider of the visit
+     * @return the command
+     */
+    public static SchedulingCommand office(Date date, Timeslot timeslot, Profile patient, Provider provider) {
+        return new SchedulingCommand(Type.SCHEDULE_OFFICE, date, timeslot, patient, provider, null, null);
+    }
+
+    /**
+     * Creates a command to schedule an imaging appointment with the next available technician.
+     *
+     * @param date the appointment date
+     * @param timeslot the appointment timeslot
+     * @param patient the patient's profile
+     * @param room the type of imaging room
+     * @return the command
+     */
+    public static SchedulingCommand imaging(Date date, Timeslot timeslot, Profile patient, Radiology room) {
+        return new SchedulingCommand(Type.SCHEDULE_IMAGING, date, timeslot, patient, null, room, null);
+    }
+
+    /**
+     * Creates a command to move an appointment to another timeslot on the same day.
+     *
+     * @param date the appointment date
+     * @param timeslot the current timeslot of the appointment
+     * @param patient the patient's profile
+     * @param newTimeslot the new timeslot
+     * @return the command
+     */
+    public static SchedulingCommand reschedule(Date date, Timeslot timeslot, Profile patient, Timeslot newTimeslot) {
+        return new SchedulingCommand(Type.RESCHEDULE, date, timeslot, patient, null, null, newTimeslot);
+    }
+
+    /**
+     * Creates a command to cancel an appointment.
+     *
+     * @param date the appointment date
+     * @param timeslot the appointment timeslot
+     * @param patient the patient's profile
+     * @return the command
+     */
+    public static SchedulingCommand cancel(Date date, Timeslot timeslot, Profile patient) {
+        return new SchedulingCommand(Type.CANCEL, date, timeslot, patient, null, null, null);
+    }
+
+    /**
+     * Getter method that returns the kind of command.
+     * @return the type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Getter method that returns the appointment date.
+     * @return the date
+     */
+    public Date getDate() {
+        return date;
+    }
+
+    /**
+     * Getter method that returns the appointment timeslot, the current one when rescheduling.
+     * @return the timeslot
+     */
+    public Timeslot getTimeslot() {
+        return timeslot;
+    }
+
+    /**
+     * Getter method that returns the patient's profile.
+     * @return the profile
+     */
+    public Profile getPatient() {
+        return patient;
+    }
+
+    /**
+     * Getter method that returns the provider of an office appointment.
+     * @return the provider, or null for other commands
+     */
+    public Provider getProvider() {
+        return provider;
+    }
+
+    /**
+     * Getter method that returns the room type of an imaging appointment.
+     * @return the room type, or null for other commands
+     */
+    public Radiology getRoom() {
+        return room;
+    }
+
+    /**
+     * Getter method that returns the new timeslot of a reschedule.
+     * @return the new timeslot, or null for other commands
+     */
+    public Timeslot getNewTimeslot() {
+        return newTimeslot;
+    }
+}
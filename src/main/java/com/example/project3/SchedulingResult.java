@@ -0,0 +1,98 @@
+package com.example.project3;
+
+/**
+ * The SchedulingResult class is the outcome of a SchedulingCommand:
+ * a status, the message the scheduler shows for it, and the appointment involved.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class SchedulingResult {
+
+    /**
+     * The outcomes of a command.
+     */
+    public enum Status {
+        BOOKED(true),
+        RESCHEDULED(true),
+        CANCELED(true),
+        INVALID_DATE(false),
+        INVALID_DOB(false),
+        DUPLICATE(false),
+        PROVIDER_UNAVAILABLE(false),
+        ROOM_UNAVAILABLE(false),
+        NO_TECHNICIAN(false),
+        NOT_FOUND(false);
+
+        private final boolean success;
+
+        Status(boolean success) {
+            this.success = success;
+        }
+
+        /**
+         * Checks if the command changed the schedule.
+         * @return true for a successful outcome, false otherwise
+         */
+        public boolean isSuccess() {
+            return success;
+        }
+    }
+
+    private final Status status;
+    private final String message;
+    private final Appointment appointment;
+
+    /**
+     * Constructor that creates a result.
+     *
+     * @param status the outcome
+     * @param message the message describing the outcome
+     * @param appointment the appointment booked, rescheduled to or canceled, or null if none
+     */
+    public SchedulingResult(Status status, String message, Appointment appointment) {
+        this.status = status;
+        this.message = message;
+        this.appointment = appointment;
+    }
+
+    /**
+     * Getter method that returns the outcome.
+     * @return the status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Checks if the command changed the schedule.
+     * @return true if successful, false otherwise
+     */
+    public boolean isSuccess() {
+        return status.isSuccess();
+    }
+
+    /**
+     * Getter method that returns the message describing the outcome.
+     * @return the message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Getter method that returns the appointment booked, rescheduled to or canceled.
+     * @return the appointment, or null if the command failed
+     */
+    public Appointment getAppointment() {
+        return appointment;
+    }
+
+    /**
+     * Returns the status and message of the result.
+     * @return the string representation of the result
+     */
+    @Override
+    public String toString() {
+        return status + ": " + message;
+    }
+}
@@ -0,0 +1,422 @@
+package com.example.project3;
+
+/**
+ * The SchedulingService class holds the providers, the technician rotation and the booked
+ * appointments of the clinic, and carries out scheduling commands against them.
+ * It does not depend on JavaFX, so the scheduler can run without a window;
+ * the controller turns each SchedulingResult into an alert or a line of output.
+ * Appointments are checked and booked in an AppointmentStore, by default a
+ * ConcurrentAppointmentStore, and every booked appointment is then added to the sorted
+ * views and the technician rotation. Commits run one at a time on a service. Services that
+ * share a store never book a provider, room or patient twice, but each keeps the views of
+ * the appointments booked through it, so front-ends that show each other's appointments
+ * share one service.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class SchedulingService {
+
+    private List<Provider> providerList = new IndexedList<>();
+    private List<Technician> techRotationList = new List<>();
+    private final AppointmentStore store; // checks and books every appointment, and may be shared
+    private TechnicianRotation techRotation = new TechnicianRotation(techRotationList); // assigns technicians in turn
+
+    // sorted views of the appointments booked through this service, kept up to date on every commit
+    private final SortedView<Appointment> appointmentsByDate = new SortedView<>(Sort.BY_DATE);
+    private final SortedView<Appointment> appointmentsByPatient = new SortedView<>(Sort.BY_PATIENT);
+    private final SortedView<Appointment> appointmentsByLocation = new SortedView<>(Sort.BY_LOCATION);
+
+    /**
+     * Constructor that creates a service booking into a new ConcurrentAppointmentStore.
+     */
+    public SchedulingService() {
+        this(new ConcurrentAppointmentStore());
+    }
+
+    /**
+     * Constructor that creates a service booking into a store, which other services may share.
+     * @param store the store that checks and books the appointments
+     */
+    public SchedulingService(AppointmentStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Adds the providers of a loader to the provider list, skipping providers already in the list,
+     * and keeps the list sorted.
+     * New technicians join the rotation list, which is then reversed and the rotation started over.
+     *
+     * @param loader the loader holding the loaded providers
+     */
+    public void addProviders(ProviderLoader loader) {
+        setProviders(mergeProviders(loader));
+    }
+
+    /**
+     * Merges the providers of a loader with the providers of the service into a new roster,
+     * without changing the service: providers already in the list are skipped and the two
+     * sorted lists are merged in one pass; new technicians join the rotation list, which is
+     * then reversed.
+     * The merge may run on another thread, as long as no providers are added meanwhile.
+     *
+     * @param loader the loader holding the loaded providers
+     * @return the merged roster, to be set with setProviders
+     */
+    public ProviderRoster mergeProviders(ProviderLoader loader) {
+        List<Provider> loaded = loader.getProviders();
+        List<Provider> providers = new IndexedList<>(providerList.size() + loaded.size());
+        List<Technician> technicians = new List<>();
+        technicians.addAll(techRotationList);
+        for (Technician technician : loader.getTechnicians()) {
+            if (!providerList.contains(technician)) {
+                technicians.add(technician);
+            }
+        }
+        // the loader sorted its providers, so no sort is needed: on a tie the provider
+        // already in the list goes first, as in a stable sort of the list followed by the new ones
+        int next = 0;
+        for (Provider provider : loaded) {
+            if (providerList.contains(provider)) {
+                continue;
+            }
+            while (next < providerList.size() && Sort.BY_PROVIDER.compare(providerList.get(next), provider) <= 0) {
+                providers.add(providerList.get(next++));
+            }
+            providers.add(provider);
+        }
+        while (next < providerList.size()) {
+            providers.add(providerList.get(next++));
+        }
+
+        // technicians take turns in reverse order of loading
+        List<Technician> reversedList = new List<>(technicians.size());
+        for (int i = technicians.size() - 1; i >= 0; i--) {
+            reversedList.add(technicians.get(i));
+        }
+        return new ProviderRoster(providers, reversedList);
+    }
+
+    /**
+     * Replaces the providers and the technician rotation list with a merged roster,
+     * and starts the rotation over with the technicians' existing appointments.
+     *
+     * @param roster the roster returned by mergeProviders
+     */
+    public synchronized void setProviders(ProviderRoster roster) {
+        providerList = roster.getProviders();
+        techRotationList = roster.getTechRotationList();
+        setTechRotation();
+    }
+
+    /**
+     * Carries out a command.
+     * The appointment date and the patient's date of birth are validated first,
+     * then the command is checked against the booked appointments.
+     *
+     * @param command the command to carry out
+     * @return the result of the command
+     */
+    public SchedulingResult execute(SchedulingCommand command) {
+        SchedulingResult invalid = validate(command);
+        return invalid != null ? invalid : commit(command);
+    }
+
+    /**
+     * Validates the appointment date and the patient's date of birth of a command.
+     * Validation does not look at the booked appointments, so it may run on any thread.
+     *
+     * @param command the command to validate
+     * @return the failed result, or null if the dates are valid
+     */
+    public SchedulingResult validate(SchedulingCommand command) {
+        String invalid = checkAppointmentDate(command.getDate());
+        if (invalid != null) {
+            return new SchedulingResult(SchedulingResult.Status.INVALID_DATE, invalid, null);
+        }
+        invalid = checkDob(command.getPatient().getDOB());
+        if (invalid != null) {
+            return new SchedulingResult(SchedulingResult.Status.INVALID_DOB, invalid, null);
+        }
+        return null;
+    }
+
+    /**
+     * Carries out a validated command: checks it against the booked appointments
+     * and books, reschedules or cancels the appointment.
+     * Commits on one service run one at a time; make them in the order of the commands.
+     *
+     * @param command the command to carry out, with valid dates
+     * @return the result of the command
+     */
+    public synchronized SchedulingResult commit(SchedulingCommand command) {
+        switch (command.getType()) {
+            case SCHEDULE_OFFICE:
+                return scheduleOffice(command);
+            case SCHEDULE_IMAGING:
+                return scheduleImaging(command);
+            case RESCHEDULE:
+                return reschedule(command);
+            default:
+                return cancel(command);
+        }
+    }
+
+    /**
+     * Validates an appointment date: it must be a calendar date after today, within six months
+     * and on a weekday.
+     *
+     * @param apptDate the date to be validated
+     * @return the reason the date is invalid, or null if the date is valid
+     */
+    public String checkAppointmentDate(Date apptDate) {
+        if (!apptDate.isValid()) {
+            return "Appointment date: " + apptDate + " is not a valid calendar date.";
+        }
+        if (apptDate.isWithinSixMonths()) {
+            return "Appointment date: " + apptDate + " is not within six months.";
+        }
+        if (apptDate.isToday() || apptDate.isPastDate()) {
+            return "Appointment date: " + apptDate + " is today or a date before today.";
+        }
+        if (apptDate.isWeekend()) {
+            return "Appointment date: " + apptDate + " is a Saturday or Sunday.";
+        }
+        return null;
+    }
+
+    /**
+     * Validates a date of birth: it must be a calendar date before today.
+     *
+     * @param dob the date of birth to be validated
+     * @return the reason the date is invalid, or null if the date is valid
+     */
+    public String checkDob(Date dob) {
+        if (!dob.isValid()) {
+            return "Patient dob: " + dob + " is not a valid calendar date.";
+        }
+        if (dob.isToday() || dob.isFutureDate()) {
+            return "Patient dob: " + dob + " is today or a date after today.";
+        }
+        return null;
+    }
+
+    /**
+     * Helper method: books an office appointment with the requested provider.
+     */
+    private SchedulingResult scheduleOffice(SchedulingCommand command) {
+        Patient patient = new Patient(command.getPatient(), null);
+        Appointment newAppt = new Appointment(command.getDate(), command.getTimeslot(), patient, command.getProvider());
+        SchedulingResult conflict = book(newAppt);
+        if (conflict != null) {
+            return conflict;
+        }
+        addAppointment(newAppt);
+        return new SchedulingResult(SchedulingResult.Status.BOOKED, newAppt + " booked.", newAppt);
+    }
+
+    /**
+     * Helper method: books an imaging appointment with the next available technician in the rotation.
+     */
+    private SchedulingResult scheduleImaging(SchedulingCommand command) {
+        Date apptDate = command.getDate();
+        Timeslot timeslot = command.getTimeslot();
+        Patient patient = new Patient(command.getPatient(), null);
+        if (store.find(apptDate, timeslot, patient) != null) {
+            return duplicate(patient);
+        }
+        Technician assignedTech = techRotation.next(apptDate, timeslot, command.getRoom(), store::isRoomFree);
+        if (assignedTech == null) {
+            return new SchedulingResult(SchedulingResult.Status.NO_TECHNICIAN,
+                    "Cannot find an available technician at all locations for "
+                            + command.getRoom() + " at slot " + timeslot.toTimeFormat() + " .", null);
+        }
+        Appointment imagingAppt = new Imaging(apptDate, timeslot, patient, command.getRoom());
+        imagingAppt.setProvider(assignedTech);
+        SchedulingResult conflict = book(imagingAppt); // fails only if booked meanwhile through another service
+        if (conflict != null) {
+            return conflict;
+        }
+        addAppointment(imagingAppt);
+        return new SchedulingResult(SchedulingResult.Status.BOOKED, imagingAppt + " booked.", imagingAppt);
+    }
+
+    /**
+     * Helper method: moves an appointment to the new timeslot with the same provider.
+     */
+    private SchedulingResult reschedule(SchedulingCommand command) {
+        Date apptDate = command.getDate();
+        Patient patient = new Patient(command.getPatient(), null);
+        Appointment originalAppt = store.find(apptDate, command.getTimeslot(), patient);
+        if (originalAppt == null) {
+            return notFound(command);
+        }
+        Provider provider = (Provider) originalAppt.getProvider();
+        Appointment newAppt;
+        if (originalAppt instanceof Imaging) {
+            newAppt = new Imaging(apptDate, command.getNewTimeslot(), patient, ((Imaging) originalAppt).getRoom());
+            newAppt.setProvider(provider);
+        } else {
+            newAppt = new Appointment(apptDate, command.getNewTimeslot(), patient, provider);
+        }
+        SchedulingResult conflict = book(newAppt); // the original keeps its slot until the new one is booked
+        if (conflict != null) {
+            return conflict;
+        }
+        removeAppointment(originalAppt);
+        addAppointment(newAppt);
+        return new SchedulingResult(SchedulingResult.Status.RESCHEDULED, "Reschedule to " + newAppt, newAppt);
+    }
+
+    /**
+     * Helper method: removes the requested appointment.
+     */
+    private SchedulingResult cancel(SchedulingCommand command) {
+        Appointment stored = removeAppointment(
+                new Appointment(command.getDate(), command.getTimeslot(), new Person(command.getPatient())));
+        if (stored == null) {
+            return notFound(command);
+        }
+        return new SchedulingResult(SchedulingResult.Status.CANCELED, command.getDate() + " "
+                + command.getTimeslot().toTimeFormat() + " " + command.getPatient()
+                + " - appointment has been canceled.", stored);
+    }
+
+    /**
+     * Helper method: books a new appointment in the store, which checks it for a duplicate,
+     * for the provider being busy, and for an imaging appointment, for its room being taken
+     * at the technician's location, under the same locks as the booking.
+     * @return the failed result, or null if the appointment was booked
+     */
+    private SchedulingResult book(Appointment appt) {
+        Provider provider = (Provider) appt.getProvider();
+        if (provider == null) {
+            if (store.contains(appt)) {
+                return duplicate(appt.getProfile());
+            }
+            return new SchedulingResult(SchedulingResult.Status.PROVIDER_UNAVAILABLE, "Provider cannot be null.", null);
+        }
+        switch (store.book(appt)) {
+            case BOOKED:
+                return null;
+            case DUPLICATE:
+                return duplicate(appt.getProfile());
+            case PROVIDER_UNAVAILABLE:
+                return new SchedulingResult(SchedulingResult.Status.PROVIDER_UNAVAILABLE,
+                        provider + " is not available at slot " + appt.getTimeslot().toTimeFormat() + ".", null);
+            default:
+                return new SchedulingResult(SchedulingResult.Status.ROOM_UNAVAILABLE, ((Imaging) appt).getRoom()
+                        + " room at " + provider.getLocation() + " is not available at slot "
+                        + appt.getTimeslot().toTimeFormat() + ".", null);
+        }
+    }
+
+    /**
+     * Helper method: returns the result of a patient already booked at the time.
+     */
+    private static SchedulingResult duplicate(Person patient) {
+        return new SchedulingResult(SchedulingResult.Status.DUPLICATE,
+                patient.getProfile() + " has an existing appointment at the same time slot.", null);
+    }
+
+    /**
+     * Helper method: returns the result of a missing appointment.
+     */
+    private static SchedulingResult notFound(SchedulingCommand command) {
+        return new SchedulingResult(SchedulingResult.Status.NOT_FOUND, command.getDate() + " "
+                + command.getTimeslot().toTimeFormat() + " " + command.getPatient()
+                + " - appointment does not exist.", null);
+    }
+
+    /**
+     * Helper method: adds an appointment booked in the store to every sorted view
+     * and to the technician rotation.
+     */
+    private void addAppointment(Appointment appt) {
+        appointmentsByDate.add(appt);
+        appointmentsByPatient.add(appt);
+        appointmentsByLocation.add(appt);
+        if (appt.getProvider() instanceof Technician) {
+            techRotation.book(appt.getProvider(), appt.getDate(), appt.getTimeslot());
+        }
+    }
+
+    /**
+     * Helper method: removes the appointment equal to appt from the store, from every sorted view
+     * and from the technician rotation.
+     * @return the removed appointment, or null if none is booked
+     */
+    private Appointment removeAppointment(Appointment appt) {
+        Appointment stored = store.remove(appt);
+        if (stored == null) {
+            return null;
+        }
+        appointmentsByDate.remove(stored);
+        appointmentsByPatient.remove(stored);
+        appointmentsByLocation.remove(stored);
+        if (stored.getProvider() instanceof Technician) {
+            techRotation.release(stored.getProvider(), stored.getDate(), stored.getTimeslot());
+        }
+        return stored;
+    }
+
+    /**
+     * Helper method: starts the rotation over with the techRotationList
+     * and the technicians' existing appointments.
+     */
+    private void setTechRotation() {
+        techRotation = new TechnicianRotation(techRotationList);
+        for (Appointment appt : store) {
+            if (appt.getProvider() instanceof Technician) {
+                techRotation.book(appt.getProvider(), appt.getDate(), appt.getTimeslot());
+            }
+        }
+    }
+
+    /**
+     * Getter method that returns the providers, sorted.
+     * @return the provider list
+     */
+    public List<Provider> getProviders() {
+        return providerList;
+    }
+
+    /**
+     * Getter method that returns the technicians in the order they take turns.
+     * @return the rotation list
+     */
+    public List<Technician> getTechRotationList() {
+        return techRotationList;
+    }
+
+    /**
+     * Getter method that returns the store of booked appointments.
+     * @return the appointment store
+     */
+    public AppointmentStore getAppointments() {
+        return store;
+    }
+
+    /**
+     * Getter method that returns the booked appointments sorted by date, time and provider.
+     * @return the sorted view
+     */
+    public SortedView<Appointment> getAppointmentsByDate() {
+        return appointmentsByDate;
+    }
+
+    /**
+     * Getter method that returns the booked appointments sorted by patient, date and time.
+     * @return the sorted view
+     */
+    public SortedView<Appointment> getAppointmentsByPatient() {
+        return appointmentsByPatient;
+    }
+
+    /**
+     * Getter method that returns the booked appointments sorted by county, date and time.
+     * @return the sorted view
+     */
+    public SortedView<Appointment> getAppointmentsByLocation() {
+        return appointmentsByLocation;
+    }
+}
@@ -1,13 +1,66 @@
 package com.example.project3;
+import java.util.Comparator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
- * This class provides methods, using selection sort, to sort for the
- * provider and appointment list.
+ * This class provides methods, using a stable merge sort, to sort for the
+ * provider and appointment list. The sort order is given by Comparator chains,
+ * so objects that compare equal keep their current order in the list.
+ * Lists larger than the parallel threshold, such as the roster of a large providers
+ * file, are sorted with a fork/join merge sort that gives the same order as the
+ * sequential one.
  * @author Shahnaz Khan, Vy Nguyen
  */
 public class Sort {
 
+    /**
+     * Sub-arrays shorter than this are sorted with insertion sort instead of being split.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Sub-arrays shorter than this are never split into parallel tasks.
+     */
+    private static final int MIN_PARALLEL_RUN = 1 << 11;
+
+    /**
+     * Provider and appointment lists with more objects than this are sorted in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * Orders appointments by date, timeslot, then provider.
+     */
+    public static final Comparator<Appointment> BY_DATE =
+            Comparator.comparing(Appointment::getDate)
+                    .thenComparing(Appointment::getTimeslot)
+                    .thenComparing(Appointment::getProvider);
+
+    /**
+     * Orders appointments by patient profile, date, then timeslot.
+     */
+    public static final Comparator<Appointment> BY_PATIENT =
+            Comparator.comparing(Appointment::getProfile)
+                    .thenComparing(Appointment::getDate)
+                    .thenComparing(Appointment::getTimeslot);
+
+    /**
+     * Orders appointments by the county of the provider's location, date, then timeslot.
+     */
+    public static final Comparator<Appointment> BY_LOCATION =
+            Comparator.comparing((Appointment appt) -> ((Provider) appt.getProvider()).getLocation().getCounty())
+                    .thenComparing(Appointment::getDate)
+                    .thenComparing(Appointment::getTimeslot);
+
+    /**
+     * Orders providers by last name, then date of birth.
+     */
+    public static final Comparator<Provider> BY_PROVIDER =
+            Comparator.comparing((Provider provider) -> provider.getProfile().getLastName())
+                    .thenComparing(provider -> provider.getProfile().getDOB());
+
     /**
      * Sorts a list of appointments based on the specified key.
      * Sorting options include:
@@ -20,194 +73,198 @@ public class Sort {
      * @throws NoSuchElementException if the key is not recognized.
      */
     public static void appointment(List<Appointment> list, char key) {
+        sortBySize(list, comparator(key));
+    }
+
+    /**
+     * Returns the Comparator chain used to sort appointments by the specified key.
+     *
+     * @param key The sorting key: 'D' for date, 'P' for profile, 'L' for location.
+     * @return the Comparator for the key
+     * @throws NoSuchElementException if the key is not recognized.
+     */
+    public static Comparator<Appointment> comparator(char key) {
         switch (key) {
             case 'D':  //by date
-                sortByDate(list);
-                break;
+                return BY_DATE;
             case 'P':  //by profile
-                sortByProfile(list);
-                break;
+                return BY_PATIENT;
             case 'L':  //by location
-                sortByLocation(list);
-                break;
+                return BY_LOCATION;
             default:
                 throw new NoSuchElementException("Wrong character input for sorting.");
         }
     }
 
     /**
-     * Helper method: Generic swap method to swap elements in any list
+     * Sorts a list of providers based on their profiles. The sorting is primarily
+     * based on the last name of the provider, and if the last names are equal,
+     * it then sorts based on the date of birth.
+     * Rosters larger than the parallel threshold are sorted in parallel.
+     *
+     * @param list the list of providers to be sorted
      */
-    private static <E> void swap(List<E> list, int index1, int index2) {
-        E temp = list.get(index1);
-        list.set(index1, list.get(index2));
-        list.set(index2, temp);
+    public static void provider(List<Provider> list) {
+        sortBySize(list, BY_PROVIDER);
     }
 
     /**
-     * Compares two Provider objects based on their profiles. The comparison is
-     * primarily done by the last name of the providers. If the last names are
-     * equal, it further compares by the date of birth.
+     * Helper method: sorts a list in parallel if it is larger than the parallel threshold,
+     * and sequentially otherwise.
+     */
+    private static <E> void sortBySize(List<E> list, Comparator<? super E> comparator) {
+        if (list.size() > PARALLEL_THRESHOLD) {
+            parallelSort(list, comparator);
+        } else {
+            sort(list, comparator);
+        }
+    }
+
+    /**
+     * Sorts a list with a stable merge sort in O(n log n) time.
+     * The objects are copied out of the list once, sorted, and written back once.
      *
-     * @param p1 the first provider to compare
-     * @param p2 the second provider to compare
-     * @return a negative integer, zero, or a positive integer as the first
-     *         argument is less than, equal to, or greater than the second.
-     */
-    private static int compareProviders(Provider p1, Provider p2) {
-        Profile profile1 = p1.getProfile();
-        Profile profile2 = p2.getProfile();
-
-        // Compare by last name first
-        int cmpLastName = profile1.getLastName().compareTo(profile2.getLastName());
-        if (cmpLastName != 0) {
-            return cmpLastName;
+     * @param list the list to be sorted
+     * @param comparator the order to sort by
+     */
+    public static <E> void sort(List<E> list, Comparator<? super E> comparator) {
+        if (list.size() < 2) {
+            return;
         }
-        // if last name are equal, compare date of birth
-        return profile1.getDOB().compareTo(profile2.getDOB());
+        E[] objects = (E[]) list.toArray();
+        mergeSort(objects, comparator);
+        list.setAll(objects);
     }
 
     /**
-     * Sorts a list of providers based on their profiles. The sorting is primarily
-     * based on the last name of the provider, and if the last names are equal,
-     * it then sorts based on the date of birth.
+     * Sorts a list with a stable fork/join merge sort on the common pool.
+     * The order is the same as the one given by sort.
      *
-     * @param list the list of providers to be sorted
+     * @param list the list to be sorted
+     * @param comparator the order to sort by
      */
-    public static void provider(List<Provider> list) {
-        int size = list.size();
+    public static <E> void parallelSort(List<E> list, Comparator<? super E> comparator) {
+        parallelSort(list, comparator, ForkJoinPool.commonPool());
+    }
 
-        for(int i = 0; i < size; i++){
-            int minIndex = i;
+    /**
+     * Sorts a list with a stable fork/join merge sort on the given pool.
+     * The order is the same as the one given by sort.
+     *
+     * @param list the list to be sorted
+     * @param comparator the order to sort by
+     * @param pool the pool running the sort tasks
+     */
+    public static <E> void parallelSort(List<E> list, Comparator<? super E> comparator, ForkJoinPool pool) {
+        if (list.size() < 2) {
+            return;
+        }
+        E[] objects = (E[]) list.toArray();
+        Object[] buffer = objects.clone();
+        // Split until there are a few runs per worker, to keep every core busy
+        int minRun = Math.max(MIN_PARALLEL_RUN, objects.length / (pool.getParallelism() * 4));
+        pool.invoke(new MergeSortTask(buffer, objects, 0, objects.length, minRun,
+                (Comparator<Object>) comparator));
+        list.setAll(objects);
+    }
 
-            for(int currentIndex  = minIndex + 1; currentIndex < size; currentIndex++){
-                if (compareProviders(list.get(minIndex), list.get(currentIndex)) > 0){
-                    minIndex = currentIndex; // update the minIndex
-                }
-            }
+    /**
+     * A fork/join task that sorts src[low, high) into dest[low, high),
+     * sorting both halves in parallel and then merging them.
+     */
+    private static class MergeSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        // tasks are never serialized
+        private final transient Object[] src;
+        private final transient Object[] dest;
+        private final int low;
+        private final int high;
+        private final int minRun;
+        private final transient Comparator<Object> comparator;
+
+        MergeSortTask(Object[] src, Object[] dest, int low, int high, int minRun, Comparator<Object> comparator) {
+            this.src = src;
+            this.dest = dest;
+            this.low = low;
+            this.high = high;
+            this.minRun = minRun;
+            this.comparator = comparator;
+        }
 
-            // Swap the current element with the found minimum element
-            if (minIndex != i) {
-                swap(list, i, minIndex);
+        @Override
+        protected void compute() {
+            if (high - low <= minRun) {
+                mergeSort(src, dest, low, high, comparator);
+                return;
             }
+            int mid = (low + high) >>> 1;
+            invokeAll(new MergeSortTask(dest, src, low, mid, minRun, comparator),
+                    new MergeSortTask(dest, src, mid, high, minRun, comparator));
+            merge(src, dest, low, mid, high, comparator);
         }
+    }
 
+    /**
+     * Sorts an array with a stable merge sort.
+     *
+     * @param objects the array to be sorted
+     * @param comparator the order to sort by
+     */
+    static void mergeSort(Object[] objects, Comparator<?> comparator) {
+        Object[] buffer = objects.clone();
+        mergeSort(buffer, objects, 0, objects.length, (Comparator<Object>) comparator);
     }
 
     /**
-     * This method sorts the Appointment list by appointment date, time, then provider’s name.
-     * If date is the same, then compare time, if time comparison is the same, then compare
-     * provider's name.
-     * @param list, the list of appointments
-     */
-    private static void sortByDate(List<Appointment> list) {
-        int size = list.size();
-        for (int i = 0; i < size; i++) {
-            int minIndex = i;
-            for (int j = i + 1; j < size; j++) {
-                if (list.get(j) != null && list.get(minIndex) != null) {
-                    int dateComparison = list.get(j).getDate().compareTo(list.get(minIndex).getDate());
-                    if (dateComparison < 0) {
-                        minIndex = j;
-                    } else if (dateComparison == 0) {
-                        int providerComparison = list.get(j).getProvider().compareTo(list.get(minIndex).getProvider());
-                        if (providerComparison < 0) {
-                            minIndex = j;
-                        } else if (providerComparison == 0) {
-                            String providerNameA = list.get(j).getProvider().toString();
-                            String providerNameB = list.get(minIndex).getProvider().toString();
-                            if (providerNameA.compareTo(providerNameB) < 0) {
-                                minIndex = j;
-                            }
-                        }
-                    }
-                }
-            }
-            // Swap if a new minimum is found
-            if (minIndex != i) {
-                swap(list, i, minIndex);
-            }
+     * Helper method: sorts src[low, high) into dest[low, high).
+     * Both arrays must hold the same objects in that range when called;
+     * the two arrays swap roles at each level so no copying back is needed.
+     */
+    static void mergeSort(Object[] src, Object[] dest, int low, int high, Comparator<Object> comparator) {
+        if (high - low < INSERTION_SORT_THRESHOLD) {
+            insertionSort(dest, low, high, comparator);
+            return;
         }
+        int mid = (low + high) >>> 1;
+        mergeSort(dest, src, low, mid, comparator);
+        mergeSort(dest, src, mid, high, comparator);
+        merge(src, dest, low, mid, high, comparator);
     }
 
     /**
-     * Sorts the list ordered by patient profile, date/timeslot
-     * @param list, the list of Appointments to be sorted
-     */
-    private static void sortByProfile(List<Appointment> list){
-        int size = list.size();
-        for (int i = 0; i < size; i++) {
-            int minIndex = i;
-            for (int j = i + 1; j < size; j++) {
-                if (list.get(j) != null && list.get(minIndex) != null) {
-                    int profileComparison = list.get(j).getProfile().compareTo(list.get(minIndex).getProfile());
-                    if (profileComparison < 0) {
-                        minIndex = j;
-                    } else if (profileComparison == 0) {
-                        int dateComparison = list.get(j).getDate().compareTo(list.get(minIndex).getDate());
-                        if (dateComparison < 0) {
-                            minIndex = j;
-                        } else if (dateComparison == 0) {
-                            String providerNameA = list.get(j).getProvider().toString();
-                            String providerNameB = list.get(minIndex).getProvider().toString();
-                            if (providerNameA.compareTo(providerNameB) < 0) {
-                                minIndex = j;
-                            }
-                        }
-                    }
-                }
-            }
-            // Swap if a new minimum is found
-            if (minIndex != i) {
-                swap(list,i, minIndex);
+     * Helper method: merges the sorted runs src[low, mid) and src[mid, high) into dest.
+     * Ties are taken from the left run first, which keeps the sort stable.
+     */
+    static void merge(Object[] src, Object[] dest, int low, int mid, int high, Comparator<Object> comparator) {
+        // Runs already in order, copy them through
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, low, dest, low, high - low);
+            return;
+        }
+        int left = low;
+        int right = mid;
+        for (int i = low; i < high; i++) {
+            if (right >= high || (left < mid && comparator.compare(src[left], src[right]) <= 0)) {
+                dest[i] = src[left++];
+            } else {
+                dest[i] = src[right++];
             }
         }
     }
 
     /**
-     * Sorting the list ordered by county, date/timeslot.
-     * If county comparison is equal, sort by date, if date comparison is equal
-     * sort by timeslot.
-     * @param list, the list of Appointments to be sorted.
-     */
-    private static void sortByLocation(List<Appointment> list){
-        int size = list.size();
-        for (int i = 0; i < size; i++) {
-            int minIndex = i;
-            for (int j = i + 1; j < size; j++) {
-                Appointment minAppointment = list.get(minIndex);
-                Appointment currentAppointment = list.get(j);
-
-                Provider minProvider =  (Provider) minAppointment.getProvider();
-                Provider currentProvider =  (Provider) currentAppointment.getProvider();
-
-                if (list.get(j) != null && list.get(minIndex) != null) {
-                    int locationComparison = currentProvider.getLocation().getCounty().compareTo(minProvider.getLocation().getCounty());
-                    if (locationComparison < 0) {
-                        minIndex = j;
-                    } else if (locationComparison == 0) {
-                        int dateComparison = currentAppointment.getDate().compareTo(minAppointment.getDate());
-                        if (dateComparison < 0) {
-                            minIndex = j;
-                        } else if (dateComparison == 0) {
-                            int timeslotComparison = currentAppointment.getTimeslot().compareTo(minAppointment.getTimeslot());
-                            if (timeslotComparison < 0) {
-                                minIndex = j;
-                            } else if (timeslotComparison == 0) {
-                                String providerNameA = currentProvider.toString();
-                                String providerNameB = minProvider.toString();
-                                if (providerNameA.compareTo(providerNameB) < 0) {
-                                    minIndex = j;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-            // Swap if a new minimum is found
-            if (minIndex != i) {
-                swap(list,i, minIndex);
+     * Helper method: stable insertion sort of objects[low, high).
+     */
+    private static void insertionSort(Object[] objects, int low, int high, Comparator<Object> comparator) {
+        for (int i = low + 1; i < high; i++) {
+            Object current = objects[i];
+            int j = i - 1;
+            while (j >= low && comparator.compare(objects[j], current) > 0) {
+                objects[j + 1] = objects[j];
+                j--;
             }
+            objects[j + 1] = current;
         }
     }
-}
\ No newline at end of file
+}
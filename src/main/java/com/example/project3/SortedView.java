@@ -0,0 +1,152 @@
+package com.example.project3;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.TreeSet;
+
+/**
+ * The SortedView class keeps a collection of objects always sorted by a Comparator,
+ * in a balanced binary search tree, so adding or removing an object costs O(log n)
+ * and reading the sorted order is only an iteration.
+ * Objects that compare equal are kept in the order they were added.
+ * Objects must implement equals and hashCode, and no two objects in the view may be equal.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class SortedView<E> implements Iterable<E> {
+
+    private final TreeSet<Entry<E>> tree;
+    private final HashMap<E, Entry<E>> entries;
+    private long nextSequence;
+
+    /**
+     * An object in the tree, with the sequence number that orders it among equal objects.
+     */
+    private static final class Entry<E> {
+        private final E value;
+        private final long sequence;
+
+        private Entry(E value, long sequence) {
+            this.value = value;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Constructor that creates an empty view sorted by the comparator.
+     * @param comparator the order of the view
+     */
+    public SortedView(Comparator<? super E> comparator) {
+        this.tree = new TreeSet<>((a, b) -> {
+            int result = comparator.compare(a.value, b.value);
+            return result != 0 ? result : Long.compare(a.sequence, b.sequence);
+        });
+        this.entries = new HashMap<>();
+    }
+
+    /**
+     * Adds the object to the view at its sorted position.
+     * @param e the object to add
+     * @return true if added, false if an equal object is already in the view
+     */
+    public boolean add(E e) {
+        if (entries.containsKey(e)) {
+            return false;
+        }
+        Entry<E> entry = new Entry<>(e, nextSequence++);
+        entries.put(e, entry);
+        tree.add(entry);
+        return true;
+    }
+
+    /**
+     * Removes the object equal to e from the view.
+     * @param e the object to remove
+     * @return true if removed, false if no equal object is in the view
+     */
+    public boolean remove(E e) {
+        Entry<E> entry = entries.remove(e);
+        if (entry == null) {
+            return false;
+        }
+        tree.remove(entry);
+        return true;
+    }
+
+    /**
+     * Checks if an object equal to e is in the view.
+     * @param e the object to find
+     * @return true if found, false otherwise
+     */
+    public boolean contains(E e) {
+        return entries.containsKey(e);
+    }
+
+    /**
+     * Removes every object from the view.
+     */
+    public void clear() {
+        tree.clear();
+        entries.clear();
+    }
+
+    /**
+     * Getter method that returns the number of objects in the view.
+     * @return the number of objects
+     */
+    public int size() {
+        return tree.size();
+    }
+
+    /**
+     * Checks if the view is empty.
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return tree.isEmpty();
+    }
+
+    /**
+     * Returns one page of the view, walking only the objects before and in the page.
+     * @param offset the number of objects before the page
+     * @param limit the maximum number of objects in the page
+     * @return the objects at positions offset to offset + limit - 1 of the sorted order
+     * @throws IllegalArgumentException if offset or limit is negative
+     */
+    public List<E> page(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit must not be negative.");
+        }
+        List<E> page = new List<>(Math.max(0, Math.min(limit, tree.size() - offset)));
+        int position = 0;
+        for (Entry<E> entry : tree) {
+            if (position >= offset + (long) limit) {
+                break;
+            }
+            if (position++ >= offset) {
+                page.add(entry.value);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Returns an iterator over the objects in sorted order.
+     * @return the iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<Entry<E>> entryIterator = tree.iterator();
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                return entryIterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return entryIterator.next().value;
+            }
+        };
+    }
+}
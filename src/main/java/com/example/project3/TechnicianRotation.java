@@ -0,0 +1,167 @@
+package com.example.project3;
+import java.util.BitSet;
+import java.util.HashMap;
+
+/**
+ * The TechnicianRotation class assigns technicians to imaging appointments in rotation.
+ * For a request, the next technician after the last one assigned, wrapping around the list,
+ * who is free at the date and timeslot and whose location has the room free, is assigned.
+ * The technicians that are busy at each date and timeslot are kept in a bitset, and the
+ * technicians of each location in another, so the next eligible technician is found with
+ * a few word-wide bit operations and a nextSetBit search instead of scanning the appointments.
+ * The rotation must be told about every technician appointment that is booked or removed.
+ *
+ * @author Shahnaz Khan, Vy Nguyen
+ */
+public class TechnicianRotation {
+
+    private static final int SLOTS_PER_DAY = 12;
+
+    private final Technician[] technicians;
+    private final HashMap<Person, Integer> positions = new HashMap<>();
+    private final BitSet[] techniciansByLocation = new BitSet[Location.values().length];
+    private final HashMap<Integer, BitSet> busyBySlot = new HashMap<>();
+    private int rotationIndex; // position of the next technician to try first
+
+    /**
+     * Tells whether a room is free, such as RoomOccupancyIndex.isFree or AppointmentStore.isRoomFree.
+     */
+    public interface RoomAvailability {
+        /**
+         * Checks whether the room of the location has no appointment at the date and timeslot.
+         *
+         * @param location the location of the room
+         * @param room the type of the room
+         * @param date the date
+         * @param timeslot the timeslot
+         * @return true if the room is free, false otherwise
+         */
+        boolean isFree(Location location, Radiology room, Date date, Timeslot timeslot);
+    }
+
+    /**
+     * Constructor that creates a rotation over the technicians, in list order.
+     * @param rotation the technicians in the order they take turns
+     */
+    public TechnicianRotation(List<Technician> rotation) {
+        technicians = new Technician[rotation.size()];
+        for (int i = 0; i < technicians.length; i++) {
+            technicians[i] = rotation.get(i);
+            positions.putIfAbsent(technicians[i], i);
+        }
+        for (int i = 0; i < techniciansByLocation.length; i++) {
+            techniciansByLocation[i] = new BitSet(technicians.length);
+        }
+        for (int i = 0; i < technicians.length; i++) {
+            techniciansByLocation[technicians[i].getLocation().ordinal()].set(i);
+        }
+    }
+
+    /**
+     * Assigns the next eligible technician in the rotation, and moves the rotation past them.
+     * A technician is eligible if they have no appointment at the date and timeslot and the
+     * requested room at their location is free then.
+     * The assignment is not booked; book the appointment once it is added.
+     *
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     * @param room the type of room the appointment needs
+     * @param rooms the booked rooms
+     * @return the assigned technician, or null if no technician is eligible
+     */
+    public Technician next(Date date, Timeslot timeslot, Radiology room, RoomOccupancyIndex rooms) {
+        return next(date, timeslot, room, rooms::isFree);
+    }
+
+    /**
+     * Assigns the next eligible technician in the rotation, and moves the rotation past them,
+     * asking rooms whether the requested room at each location is free.
+     *
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     * @param room the type of room the appointment needs
+     * @param rooms tells whether a room is free
+     * @return the assigned technician, or null if no technician is eligible
+     */
+    public Technician next(Date date, Timeslot timeslot, Radiology room, RoomAvailability rooms) {
+        BitSet eligible = new BitSet(technicians.length);
+        for (Location location : Location.values()) {
+            if (rooms.isFree(location, room, date, timeslot)) {
+                eligible.or(techniciansByLocation[location.ordinal()]);
+            }
+        }
+        BitSet busy = busyBySlot.get(slotKey(date, timeslot));
+        if (busy != null) {
+            eligible.andNot(busy);
+        }
+        int position = eligible.nextSetBit(rotationIndex);
+        if (position < 0) {
+            position = eligible.nextSetBit(0); // wrap around
+        }
+        if (position < 0) {
+            return null;
+        }
+        rotationIndex = (position + 1) % technicians.length;
+        return technicians[position];
+    }
+
+    /**
+     * Marks the technician as busy at the date and timeslot.
+     * Technicians that are not in the rotation are ignored.
+     *
+     * @param technician the technician of the appointment
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     */
+    public void book(Person technician, Date date, Timeslot timeslot) {
+        Integer position = positions.get(technician);
+        if (position != null) {
+            busyBySlot.computeIfAbsent(slotKey(date, timeslot), key -> new BitSet(technicians.length)).set(position);
+        }
+    }
+
+    /**
+     * Marks the technician as free at the date and timeslot.
+     *
+     * @param technician the technician of the appointment
+     * @param date the date of the appointment
+     * @param timeslot the timeslot of the appointment
+     */
+    public void release(Person technician, Date date, Timeslot timeslot) {
+        Integer position = positions.get(technician);
+        if (position == null) {
+            return;
+        }
+        Integer key = slotKey(date, timeslot);
+        BitSet busy = busyBySlot.get(key);
+        if (busy != null) {
+            busy.clear(position);
+            if (busy.isEmpty()) {
+                busyBySlot.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the position in the rotation of the next technician to try first.
+     * @return the rotation index
+     */
+    public int getRotationIndex() {
+        return rotationIndex;
+    }
+
+    /**
+     * Getter method that returns the number of technicians in the rotation.
+     * @return the number of technicians
+     */
+    public int size() {
+        return technicians.length;
+    }
+
+    /**
+     * Helper method: returns the key of a date and timeslot in busyBySlot.
+     */
+    private static Integer slotKey(Date date, Timeslot timeslot) {
+        return date.toEpochDay() * SLOTS_PER_DAY + Integer.numberOfTrailingZeros(AvailabilityIndex.slotBit(timeslot));
+    }
+}
@@ -12,32 +12,52 @@ package com.example.project3;
 public class Timeslot implements Comparable<Timeslot> {
     private final int hour;
     private final int minute;
+    // Computed once, since slots are compared, sorted and displayed far more often than created
+    private final int minuteOfDay;
+    private final int slotNumber;
+    private final String timeFormat;
     private static final int MIN_SLOT = 1;
     private static final int MAX_SLOT = 12;
     private static final int MORNING_BASE_HOUR = 9; // 9 AM
     private static final int AFTERNOON_START_HOUR = 14; // 2 PM
+    private static final int DEFAULT_SLOT = 2; // 9:30 AM
+    private static final Timeslot[] SLOTS = new Timeslot[MAX_SLOT];
+
+    static {
+        for (int slot = MIN_SLOT; slot <= MAX_SLOT; slot++) {
+            SLOTS[slot - 1] = new Timeslot(calculateHour(slot), calculateMinute(slot));
+        }
+    }
 
     /**
      * Default Constructor
+     * @deprecated Use Timeslot.of, which returns a shared instance.
      */
+    @Deprecated
     public Timeslot() {
-        this.hour = 0;
-        this.minute = 0;
+        this(0, 0);
     }
 
     /**
      * Constructs a Timeslot from a slot number string.
      * @param slotNumberStr The string representation of the slot number.
+     * @deprecated Use Timeslot.of(String), which returns the shared instance instead of a copy.
      */
+    @Deprecated
     public Timeslot(String slotNumberStr) {
-        int slotNumber = parseSlotNumber(slotNumberStr);
-        if (!isValidSlotNumber(slotNumber)) {
-            this.hour = MORNING_BASE_HOUR;
-            this.minute = 30; // Default to 9:30 AM if invalid
-            return;
-        }
-        this.hour = calculateHour(slotNumber);
-        this.minute = calculateMinute(slotNumber);
+        this(of(slotNumberStr));
+    }
+
+    /**
+     * Helper constructor that copies a shared Timeslot.
+     * @param slot The Timeslot to copy.
+     */
+    private Timeslot(Timeslot slot) {
+        this.hour = slot.hour;
+        this.minute = slot.minute;
+        this.minuteOfDay = slot.minuteOfDay;
+        this.slotNumber = slot.slotNumber;
+        this.timeFormat = slot.timeFormat;
     }
 
 
@@ -46,17 +66,57 @@ public class Timeslot implements Comparable<Timeslot> {
      * @param hour The hour of the timeslot (0-23).
      * @param minute The minute of the timeslot (0-59).
      * @throws IllegalArgumentException if the hour or minute is invalid.
+     * @deprecated Use Timeslot.of for the 12 slots; a time between slots has slot number -1.
      */
+    @Deprecated
     public Timeslot(int hour, int minute) {
         if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
             throw new IllegalArgumentException("Invalid hour or minute.");
         }
         this.hour = hour;
         this.minute = minute;
+        this.minuteOfDay = hour * 60 + minute;
+        this.slotNumber = calculateSlotNumber(hour, minute);
+        this.timeFormat = formatTime(hour, minute);
+    }
+
+    /**
+     * Returns the shared Timeslot for a slot number.
+     * There is one immutable instance per slot, so slots returned by of and values may be
+     * compared with ==; the deprecated constructors create separate copies.
+     * @param slotNumber The slot number, from 1 to 12.
+     * @return the Timeslot of the slot
+     * @throws IllegalArgumentException if the slot number is not between 1 and 12.
+     */
+    public static Timeslot of(int slotNumber) {
+        if (slotNumber < MIN_SLOT || slotNumber > MAX_SLOT) {
+            throw new IllegalArgumentException(slotNumber + " is not a valid time slot.");
+        }
+        return SLOTS[slotNumber - 1];
+    }
+
+    /**
+     * Returns the shared Timeslot for a slot number string.
+     * Like the String constructor, an invalid slot number gives the 9:30 AM slot.
+     * @param slotNumberStr The string representation of the slot number.
+     * @return the Timeslot of the slot
+     * @throws NumberFormatException if the string is not a number.
+     */
+    public static Timeslot of(String slotNumberStr) {
+        int slotNumber = parseSlotNumber(slotNumberStr);
+        return SLOTS[(slotNumber >= MIN_SLOT && slotNumber <= MAX_SLOT ? slotNumber : DEFAULT_SLOT) - 1];
+    }
+
+    /**
+     * Returns the 12 shared Timeslots, in order.
+     * @return a new array holding slots 1 to 12.
+     */
+    public static Timeslot[] values() {
+        return SLOTS.clone();
     }
 
     // Parse slot number from string
-    private int parseSlotNumber(String slotNumberStr) {
+    private static int parseSlotNumber(String slotNumberStr) {
         try {
             return Integer.parseInt(slotNumberStr);
         } catch (NumberFormatException e) {
@@ -74,7 +134,7 @@ public class Timeslot implements Comparable<Timeslot> {
     }
 
     // Calculate hour from slot number
-    private int calculateHour(int slotNumber) {
+    private static int calculateHour(int slotNumber) {
         if (slotNumber <= 6) {
             return MORNING_BASE_HOUR + (slotNumber - 1) / 2; // Morning slots
         } else {
@@ -83,7 +143,7 @@ public class Timeslot implements Comparable<Timeslot> {
     }
 
     // Calculate minute from slot number
-    private int calculateMinute(int slotNumber) {
+    private static int calculateMinute(int slotNumber) {
         return (slotNumber % 2 == 1) ? 0 : 30; // Odd slots = 00 min, even slots = 30 min
     }
 
@@ -92,6 +152,11 @@ public class Timeslot implements Comparable<Timeslot> {
      * @return The slot number, or -1 if invalid.
      */
     public int getSlotNumber() {
+        return slotNumber;
+    }
+
+    // Calculate slot number from hour and minute
+    private static int calculateSlotNumber(int hour, int minute) {
         if (hour >= MORNING_BASE_HOUR && hour < 12) {
             int slot = (hour - MORNING_BASE_HOUR) * 2 + 1; // Convert hour to slot
             if (minute == 30) {
@@ -139,10 +204,7 @@ public class Timeslot implements Comparable<Timeslot> {
      */
     @Override
     public int compareTo(Timeslot other) {
-        if (this.hour != other.hour) {
-            return Integer.compare(this.hour, other.hour);
-        }
-        return Integer.compare(this.minute, other.minute);
+        return Integer.compare(this.minuteOfDay, other.minuteOfDay);
     }
 
     /**
@@ -152,20 +214,36 @@ public class Timeslot implements Comparable<Timeslot> {
      */
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (obj instanceof Timeslot) {
-            Timeslot other = (Timeslot) obj;
-            return this.hour == other.hour && this.minute == other.minute;
+            return this.minuteOfDay == ((Timeslot) obj).minuteOfDay;
         }
         return false;
     }
 
+    /**
+     * Returns a hash code consistent with equals.
+     * @return the number of minutes from midnight to this Timeslot.
+     */
+    @Override
+    public int hashCode() {
+        return this.minuteOfDay;
+    }
+
     /**
      * Returns the time of the Timeslot in "H:MM" format.
      * @return The formatted string representation of the Timeslot.
      */
     public String toTimeFormat() {
-        String period = (this.hour < 12) ? "AM" : "PM";
-        int displayHour = (this.hour % 12 == 0) ? 12 : this.hour % 12;
+        return timeFormat;
+    }
+
+    // Format an hour and minute as "H:MM AM" or "H:MM PM"
+    private static String formatTime(int hour, int minute) {
+        String period = (hour < 12) ? "AM" : "PM";
+        int displayHour = (hour % 12 == 0) ? 12 : hour % 12;
 
         return String.format("%d:%02d %s",displayHour, minute, period);
     }
@@ -176,6 +254,6 @@ public class Timeslot implements Comparable<Timeslot> {
      */
     @Override
     public String toString() {
-        return Integer.toString(getSlotNumber());
+        return Integer.toString(slotNumber);
     }
 }
@@ -0,0 +1,83 @@
+package com.example.project3.benchmarks;
+
+import com.example.project3.*;
+import com.example.project3.models.ClinicFixtures;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Measures the throughput of the batch command processor on a generated command file,
+ * run on one thread and through the pipeline with 2 up to the number of cores workers,
+ * with the providers of providers.txt and the clinic clock pinned to 10/15/2024.
+ * Usage: BatchBenchmark [commands] [rounds]
+ */
+public class BatchBenchmark {
+    private static final String[] NPIS = {"01", "23", "11", "32", "54", "91", "39", "09", "85", "77"};
+    private static final String[] ROOMS = {"xray", "ultrasound", "catscan"};
+    private static final int PATIENTS = 20_000;
+
+    public static void main(String[] args) throws IOException {
+        int commands = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        ClinicClock.setDefault(ClinicClock.fixed(new Date("10/15/2024")));
+        File input = File.createTempFile("commands", ".txt");
+        File output = File.createTempFile("results", ".txt");
+        input.deleteOnExit();
+        output.deleteOnExit();
+        generate(input, commands, new Random(2024));
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%d commands (%d KB), %d rounds, %d cores%n", commands, input.length() / 1024, rounds, cores);
+        double sequential = time(input, output, 1, rounds);
+        System.out.printf("one thread %8.2f ms  %10.0f commands/sec%n", sequential, commands / sequential * 1e3);
+        for (int workers = 2; workers <= Math.max(2, cores); workers *= 2) {
+            double pipelined = time(input, output, workers, rounds);
+            System.out.printf("%2d workers %8.2f ms  %10.0f commands/sec  speedup %5.2fx%n",
+                    workers, pipelined, commands / pipelined * 1e3, sequential / pipelined);
+        }
+    }
+
+    /**
+     * Returns the best time in milliseconds to process the file with a new service.
+     */
+    private static double time(File input, File output, int workers, int rounds) throws IOException {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < rounds + 1; round++) {
+            BatchProcessor processor = new BatchProcessor(ClinicFixtures.newService());
+            processor.process(input, output, workers);
+            if (round > 0) { // first round warms up the JIT
+                best = Math.min(best, processor.getElapsedMillis());
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Writes random commands: mostly office and imaging visits, with some cancels, reschedules
+     * and invalid dates, for appointments up to six months after 10/15/2024.
+     */
+    static void generate(File file, int commands, Random random) throws IOException {
+        Date today = new Date("10/15/2024");
+        try (PrintWriter out = new PrintWriter(file)) {
+            for (int i = 0; i < commands; i++) {
+                Date date = Date.ofEpochDay(today.toEpochDay() + 1 + random.nextInt(185));
+                int patient = random.nextInt(PATIENTS);
+                String fields = date + "," + (1 + random.nextInt(12)) + ",FIRST" + patient + ",LAST" + (patient % 97)
+                        + "," + (1 + patient % 12) + "/" + (1 + patient % 28) + "/" + (1950 + patient % 60);
+                int kind = random.nextInt(10);
+                if (kind < 5) {
+                    out.println("S," + fields + "," + NPIS[random.nextInt(NPIS.length)]);
+                } else if (kind < 8) {
+                    out.println("T," + fields + "," + ROOMS[random.nextInt(ROOMS.length)]);
+                } else if (kind < 9) {
+                    out.println("C," + fields);
+                } else {
+                    out.println("R," + fields + "," + (1 + random.nextInt(12)));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.project3.benchmarks;
+
+import com.example.project3.*;
+import com.example.project3.models.ClinicFixtures;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Measures contended booking throughput with 8 to 64 threads booking and canceling random
+ * appointments with the providers of providers.txt over 30 days:
+ * the current check-then-add sequence (isProviderAvailable, then allAppointments.add)
+ * under one lock, the striped-lock ConcurrentAppointmentStore, and the
+ * compare-and-set LockFreeAppointmentStore.
+ * Usage: BookingBenchmark [operations] [rounds]
+ */
+public class BookingBenchmark {
+    private static final int DAYS = 30;
+    private static final int PATIENTS = 5_000;
+
+    /**
+     * One way of booking and canceling appointments from several threads.
+     */
+    private interface Booker {
+        boolean book(Appointment appt);
+
+        boolean remove(Appointment appt);
+    }
+
+    /**
+     * The sequence of the scheduler: check the patient and the provider (and room), then add
+     * and book; made thread-safe with one lock, as the indexes are not.
+     */
+    private static final class LockedSequence implements Booker {
+        private final AppointmentIndex allAppointments = new AppointmentIndex();
+        private final AvailabilityIndex providerAvailability = new AvailabilityIndex();
+        private final RoomOccupancyIndex roomOccupancy = new RoomOccupancyIndex();
+
+        @Override
+        public synchronized boolean book(Appointment appt) {
+            Provider provider = (Provider) appt.getProvider();
+            if (allAppointments.contains(appt)
+                    || !providerAvailability.isFree(provider, appt.getDate(), appt.getTimeslot())) {
+                return false;
+            }
+            if (appt instanceof Imaging && !roomOccupancy.isFree(provider.getLocation(),
+                    ((Imaging) appt).getRoom(), appt.getDate(), appt.getTimeslot())) {
+                return false;
+            }
+            allAppointments.add(appt);
+            providerAvailability.book(provider, appt.getDate(), appt.getTimeslot());
+            if (appt instanceof Imaging) {
+                roomOccupancy.book(provider.getLocation(), ((Imaging) appt).getRoom(), appt.getDate(), appt.getTimeslot());
+            }
+            return true;
+        }
+
+        @Override
+        public synchronized boolean remove(Appointment appt) {
+            Appointment stored = allAppointments.remove(appt);
+            if (stored == null) {
+                return false;
+            }
+            Provider provider = (Provider) stored.getProvider();
+            providerAvailability.release(provider, stored.getDate(), stored.getTimeslot());
+            if (stored instanceof Imaging) {
+                roomOccupancy.release(provider.getLocation(), ((Imaging) stored).getRoom(),
+                        stored.getDate(), stored.getTimeslot());
+            }
+            return true;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        List<Provider> providers = ClinicFixtures.loadProviders().getProviders();
+        Date firstDay = new Date("10/16/2024");
+
+        System.out.printf("%d operations, %d rounds, %d cores%n", operations, rounds,
+                Runtime.getRuntime().availableProcessors());
+        System.out.println("threads  locked sequence   striped locks       lock-free (ops/sec)");
+        for (int threads = 8; threads <= 64; threads *= 2) {
+            Appointment[][] work = generate(providers, firstDay, threads, operations / threads, new Random(threads));
+            double locked = time(LockedSequence::new, work, rounds);
+            double striped = time(() -> {
+                ConcurrentAppointmentStore store = new ConcurrentAppointmentStore();
+                return booker(store::book, store::remove);
+            }, work, rounds);
+            double lockFree = time(() -> {
+                LockFreeAppointmentStore store = new LockFreeAppointmentStore(providers, firstDay, DAYS);
+                return booker(store::book, store::remove);
+            }, work, rounds);
+            System.out.printf("%7d  %15.0f  %14.0f  %17.0f%n", threads,
+                    operations / locked * 1e3, operations / striped * 1e3, operations / lockFree * 1e3);
+        }
+    }
+
+    /**
+     * Helper method: adapts a store's book and remove methods to a Booker.
+     */
+    private static Booker booker(Function<Appointment, SchedulingResult.Status> book,
+                                 Function<Appointment, Appointment> remove) {
+        return new Booker() {
+            @Override
+            public boolean book(Appointment appt) {
+                return book.apply(appt) == SchedulingResult.Status.BOOKED;
+            }
+
+            @Override
+            public boolean remove(Appointment appt) {
+                return remove.apply(appt) != null;
+            }
+        };
+    }
+
+    /**
+     * Returns the best time in milliseconds for the threads to run their work on a new booker;
+     * every third appointment of a thread is canceled instead of booked.
+     */
+    private static double time(Supplier<Booker> newBooker, Appointment[][] work, int rounds)
+            throws InterruptedException {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < rounds + 1; round++) {
+            Booker booker = newBooker.get();
+            CountDownLatch start = new CountDownLatch(1);
+            Thread[] threads = new Thread[work.length];
+            for (int t = 0; t < threads.length; t++) {
+                Appointment[] appointments = work[t];
+                threads[t] = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < appointments.length; i++) {
+                        if (i % 3 == 2) {
+                            booker.remove(appointments[i]);
+                        } else {
+                            booker.book(appointments[i]);
+                        }
+                    }
+                });
+                threads[t].start();
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            double elapsed = (System.nanoTime() - begin) / 1e6;
+            if (round > 0) { // first round warms up the JIT
+                best = Math.min(best, elapsed);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns random office and imaging appointments for each thread, on weekdays and weekends alike.
+     */
+    static Appointment[][] generate(List<Provider> providers, Date firstDay, int threads, int perThread,
+                                    Random random) {
+        Radiology[] rooms = Radiology.values();
+        Patient[] patients = new Patient[PATIENTS];
+        for (int i = 0; i < PATIENTS; i++) {
+            patients[i] = new Patient(new Profile("P" + i, "L" + i % 97, new Date("1/1/1990")), null);
+        }
+        Appointment[][] work = new Appointment[threads][perThread];
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < perThread; i++) {
+                Date date = Date.ofEpochDay(firstDay.toEpochDay() + random.nextInt(DAYS));
+                Timeslot slot = Timeslot.of(1 + random.nextInt(12));
+                Patient patient = patients[random.nextInt(PATIENTS)];
+                Provider provider = providers.get(random.nextInt(providers.size()));
+                Appointment appt;
+                if (provider instanceof Technician) {
+                    appt = new Imaging(date, slot, patient, rooms[random.nextInt(rooms.length)]);
+                    appt.setProvider(provider);
+                } else {
+                    appt = new Appointment(date, slot, patient, provider);
+                }
+                work[t][i] = appt;
+            }
+        }
+        return work;
+    }
+}
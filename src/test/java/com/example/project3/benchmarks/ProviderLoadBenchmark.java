@@ -0,0 +1,81 @@
+package com.example.project3.benchmarks;
+
+import com.example.project3.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures how the chunked provider file parser scales with the number of cores,
+ * compared to parsing the mapped file in one pass.
+ * Usage: ProviderLoadBenchmark [lines] [rounds]
+ */
+public class ProviderLoadBenchmark {
+    private static final String[] LOCATIONS = {"BRIDGEWATER", "EDISON", "PISCATAWAY", "PRINCETON", "MORRISTOWN", "CLARK"};
+    private static final String[] SPECIALTIES = {"FAMILY", "PEDIATRICIAN", "ALLERGIST"};
+
+    public static void main(String[] args) throws IOException {
+        int lines = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        File file = File.createTempFile("roster", ".txt");
+        file.deleteOnExit();
+        generate(file, lines, new Random(2024));
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        System.out.printf("%d lines (%d KB), %d rounds, %d cores%n", lines, file.length() / 1024, rounds, cores);
+        double sequential = time(file, null, rounds);
+        System.out.printf("one pass   %8.2f ms  %10.0f lines/sec%n", sequential, lines / sequential * 1e3);
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            double parallel = time(file, pool, rounds);
+            pool.shutdown();
+            System.out.printf("%2d threads %8.2f ms  %10.0f lines/sec  speedup %5.2fx%n",
+                    threads, parallel, lines / parallel * 1e3, sequential / parallel);
+        }
+    }
+
+    /**
+     * Returns the best time in milliseconds to load the file, in one pass when pool is null.
+     */
+    private static double time(File file, ForkJoinPool pool, int rounds) throws IOException {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < rounds + 1; round++) {
+            ProviderLoader loader = new ProviderLoader();
+            long start = System.nanoTime();
+            if (pool == null) {
+                loader.setParallelThreshold(Integer.MAX_VALUE);
+                loader.load(file);
+            } else {
+                loader.setParallelThreshold(0);
+                loader.load(file, pool);
+            }
+            double elapsed = (System.nanoTime() - start) / 1e6;
+            if (round > 0) { // first round warms up the JIT
+                best = Math.min(best, elapsed);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Writes a roster of random doctors and technicians, with distinct profiles.
+     */
+    static void generate(File file, int lines, Random random) throws IOException {
+        try (PrintWriter out = new PrintWriter(file)) {
+            for (int i = 0; i < lines; i++) {
+                String location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+                String dob = (1 + random.nextInt(12)) + "/" + (1 + random.nextInt(28)) + "/" + (1950 + random.nextInt(50));
+                if (random.nextInt(4) == 0) {
+                    out.println("T  TECH" + i + "  LAST" + random.nextInt(1000) + "  " + dob + "  " + location
+                            + "  " + (100 + random.nextInt(100)));
+                } else {
+                    out.println("D  DOC" + i + "  LAST" + random.nextInt(1000) + "  " + dob + "  " + location
+                            + "  " + SPECIALTIES[random.nextInt(SPECIALTIES.length)] + "  " + i);
+                }
+            }
+        }
+    }
+}
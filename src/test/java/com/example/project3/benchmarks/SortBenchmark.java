@@ -0,0 +1,91 @@
+package com.example.project3.benchmarks;
+
+import com.example.project3.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures how the fork/join appointment sort scales with the number of cores,
+ * compared to the sequential merge sort, for the 'D', 'P' and 'L' keys.
+ * Usage: SortBenchmark [appointments] [rounds]
+ */
+public class SortBenchmark {
+    private static final String[] FIRST_NAMES = {"JOHN", "JANE", "ANDREW", "MONICA", "TOM", "RACHAEL", "BEN", "GARY"};
+    private static final String[] LAST_NAMES = {"DOE", "PATEL", "LIM", "ZIMNES", "HARPER", "KAUR", "TAYLOR", "FOX"};
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        List<Appointment> appointments = generate(count, new Random(2024));
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        System.out.printf("%d appointments, %d rounds, %d cores%n", count, rounds, cores);
+        for (char key : new char[]{'D', 'P', 'L'}) {
+            double sequential = time(appointments, key, null, rounds);
+            System.out.printf("key %c: sequential %8.2f ms%n", key, sequential);
+            for (int threads = 1; threads <= cores; threads *= 2) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                double parallel = time(appointments, key, pool, rounds);
+                pool.shutdown();
+                System.out.printf("key %c: %2d threads %8.2f ms  speedup %5.2fx%n",
+                        key, threads, parallel, sequential / parallel);
+            }
+        }
+    }
+
+    /**
+     * Returns the best time in milliseconds to sort a fresh copy of the appointments,
+     * sequentially when pool is null.
+     */
+    private static double time(List<Appointment> appointments, char key, ForkJoinPool pool, int rounds) {
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < rounds + 1; round++) {
+            List<Appointment> copy = new List<>(appointments.size());
+            copy.addAll(appointments);
+            long start = System.nanoTime();
+            if (pool == null) {
+                Sort.sort(copy, Sort.comparator(key));
+            } else {
+                Sort.parallelSort(copy, Sort.comparator(key), pool);
+            }
+            double elapsed = (System.nanoTime() - start) / 1e6;
+            if (round > 0) { // first round warms up the JIT
+                best = Math.min(best, elapsed);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Builds random appointments over a year for a small roster of providers.
+     */
+    static List<Appointment> generate(int count, Random random) {
+        Location[] locations = Location.values();
+        Specialty[] specialties = Specialty.values();
+        Provider[] providers = new Provider[40];
+        for (int i = 0; i < providers.length; i++) {
+            Profile profile = new Profile(FIRST_NAMES[i % FIRST_NAMES.length], LAST_NAMES[i / 5 % LAST_NAMES.length],
+                    new Date(random.nextInt(12) + 1, random.nextInt(28) + 1, 1960 + random.nextInt(40)));
+            providers[i] = (i % 4 == 0)
+                    ? new Technician(profile, locations[i % locations.length], 100 + i)
+                    : new Doctor(profile, locations[i % locations.length], specialties[i % specialties.length],
+                    Integer.toString(i));
+        }
+        Patient[] patients = new Patient[5000];
+        for (int i = 0; i < patients.length; i++) {
+            Profile profile = new Profile(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + i,
+                    LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                    new Date(random.nextInt(12) + 1, random.nextInt(28) + 1, 1940 + random.nextInt(80)));
+            patients[i] = new Patient(profile, null);
+        }
+        List<Appointment> appointments = new List<>(count);
+        for (int i = 0; i < count; i++) {
+            Date date = new Date(random.nextInt(12) + 1, random.nextInt(28) + 1, 2025);
+            Timeslot timeslot = Timeslot.of(random.nextInt(12) + 1);
+            appointments.add(new Appointment(date, timeslot, patients[random.nextInt(patients.length)],
+                    providers[random.nextInt(providers.length)]));
+        }
+        return appointments;
+    }
+}
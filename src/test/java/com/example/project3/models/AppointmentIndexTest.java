@@ -0,0 +1,74 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class AppointmentIndexTest {
+
+    private static Appointment appointment(int day, int slot, String name) {
+        Patient patient = new Patient(new Profile(name, "DOE", new Date("12/13/1989")), null);
+        return new Appointment(Date.ofEpochDay(20000 + day), Timeslot.of(slot), patient);
+    }
+
+    @Test
+    public void testFindByKey() {
+        AppointmentIndex index = new AppointmentIndex();
+        Appointment john = appointment(0, 1, "JOHN");
+        assertTrue(index.add(john));
+        assertFalse(index.add(appointment(0, 1, "john")));
+
+        Person person = new Person(new Profile("John", "Doe", new Date("12/13/1989")));
+        assertSame(john, index.find(Date.ofEpochDay(20000), Timeslot.of(1), person));
+        assertNull(index.find(Date.ofEpochDay(20000), Timeslot.of(2), person));
+        assertNull(index.find(Date.ofEpochDay(20001), Timeslot.of(1), person));
+        assertTrue(index.contains(new Appointment(Date.ofEpochDay(20000), Timeslot.of(1), person)));
+    }
+
+    @Test
+    public void testSwapRemoveKeepsOtherAppointments() {
+        AppointmentIndex index = new AppointmentIndex();
+        Appointment a = appointment(0, 1, "A");
+        Appointment b = appointment(0, 2, "B");
+        Appointment c = appointment(1, 1, "C");
+        index.add(a);
+        index.add(b);
+        index.add(c);
+
+        assertSame(a, index.remove(appointment(0, 1, "a")));
+        assertNull(index.remove(a));
+        assertEquals(2, index.size());
+        assertSame(c, index.get(0)); // the last appointment moved into the hole
+        assertSame(b, index.find(b));
+        assertSame(c, index.find(c));
+        assertSame(c, index.remove(c));
+        assertSame(b, index.remove(b));
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    public void testRandomOperationsMatchASet() {
+        Random random = new Random(20);
+        AppointmentIndex index = new AppointmentIndex();
+        HashSet<Appointment> expected = new HashSet<>();
+        for (int i = 0; i < 20000; i++) {
+            Appointment appt = appointment(random.nextInt(30), 1 + random.nextInt(12), "P" + random.nextInt(20));
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(appt), index.add(appt));
+            } else {
+                assertEquals(expected.remove(appt), index.remove(appt) != null);
+            }
+        }
+        assertEquals(expected.size(), index.size());
+        HashSet<Appointment> stored = new HashSet<>();
+        for (Appointment appt : index) {
+            stored.add(appt);
+            assertSame(appt, index.find(appt));
+        }
+        assertEquals(expected, stored);
+    }
+}
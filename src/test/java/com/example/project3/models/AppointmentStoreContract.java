@@ -0,0 +1,225 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that every AppointmentStore must pass, run by the test class of each store.
+ */
+public abstract class AppointmentStoreContract {
+    protected final Date day = new Date("10/16/2024");
+    protected final Doctor doctor = new Doctor(new Profile("Andrew", "Patel", new Date("1/21/1989")),
+            Location.BRIDGEWATER, Specialty.FAMILY, "01");
+    protected final Doctor otherDoctor = new Doctor(new Profile("Tom", "Kaur", new Date("11/5/1972")),
+            Location.PRINCETON, Specialty.ALLERGIST, "54");
+    protected final Technician technician = new Technician(new Profile("Jenny", "Patel", new Date("8/9/1991")),
+            Location.BRIDGEWATER, 125);
+    protected final Technician otherTechnician = new Technician(new Profile("Monica", "Fox", new Date("10/10/1995")),
+            Location.BRIDGEWATER, 130);
+
+    /**
+     * Returns an empty store that can book the providers on day and the days after it.
+     */
+    protected abstract AppointmentStore newStore(List<Provider> providers);
+
+    protected AppointmentStore newStore() {
+        List<Provider> providers = new List<>();
+        providers.add(doctor);
+        providers.add(otherDoctor);
+        providers.add(technician);
+        providers.add(otherTechnician);
+        return newStore(providers);
+    }
+
+    protected static Patient patient(int i) {
+        return new Patient(new Profile("P" + i, "L" + i, new Date("1/1/1990")), null);
+    }
+
+    protected Appointment imaging(Patient patient, Timeslot slot, Technician tech, Radiology room) {
+        Appointment appt = new Imaging(day, slot, patient, room);
+        appt.setProvider(tech);
+        return appt;
+    }
+
+    @Test
+    public void testBookAndRemove() {
+        AppointmentStore store = newStore();
+        Appointment office = new Appointment(day, Timeslot.of(1), patient(1), doctor);
+        assertEquals(SchedulingResult.Status.BOOKED, store.book(office));
+        assertEquals(SchedulingResult.Status.DUPLICATE, store.book(new Appointment(day, Timeslot.of(1), patient(1), doctor)));
+        assertEquals(SchedulingResult.Status.PROVIDER_UNAVAILABLE,
+                store.book(new Appointment(day, Timeslot.of(1), patient(2), doctor)));
+        assertFalse(store.isProviderFree(doctor, day, Timeslot.of(1)));
+        assertSame(office, store.find(day, Timeslot.of(1), patient(1)));
+
+        assertEquals(SchedulingResult.Status.BOOKED,
+                store.book(imaging(patient(2), Timeslot.of(1), technician, Radiology.XRAY)));
+        assertFalse(store.isRoomFree(Location.BRIDGEWATER, Radiology.XRAY, day, Timeslot.of(1)));
+        assertEquals(SchedulingResult.Status.ROOM_UNAVAILABLE,
+                store.book(imaging(patient(3), Timeslot.of(1), otherTechnician, Radiology.XRAY)));
+        assertTrue("a booking that fails leaves the provider free",
+                store.isProviderFree(otherTechnician, day, Timeslot.of(1)));
+        assertEquals(SchedulingResult.Status.BOOKED,
+                store.book(imaging(patient(3), Timeslot.of(1), otherTechnician, Radiology.CATSCAN)));
+        assertEquals(3, store.size());
+
+        assertSame(office, store.remove(new Appointment(day, Timeslot.of(1), new Person(patient(1).getProfile()))));
+        assertNull(store.remove(office));
+        assertTrue(store.isProviderFree(doctor, day, Timeslot.of(1)));
+        assertNotNull(store.remove(imaging(patient(2), Timeslot.of(1), technician, Radiology.XRAY)));
+        assertTrue(store.isRoomFree(Location.BRIDGEWATER, Radiology.XRAY, day, Timeslot.of(1)));
+        assertTrue(store.isProviderFree(technician, day, Timeslot.of(1)));
+        assertEquals(1, store.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBookWithoutProvider() {
+        newStore().book(new Appointment(day, Timeslot.of(1), patient(1)));
+    }
+
+    @Test
+    public void testNoDoubleBookingUnderContention() throws Exception {
+        AppointmentStore store = newStore();
+        Provider[] providers = {doctor, technician, otherTechnician};
+        Radiology[] rooms = Radiology.values();
+        int threads = 16;
+        int attempts = 20_000;
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        Future<?>[] results = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            results[t] = pool.submit(() -> {
+                Random random = new Random(seed);
+                start.await();
+                for (int i = 0; i < attempts; i++) {
+                    Patient patient = patient(random.nextInt(50));
+                    Timeslot slot = Timeslot.of(1 + random.nextInt(3));
+                    Provider provider = providers[random.nextInt(providers.length)];
+                    Appointment appt = provider instanceof Technician
+                            ? imaging(patient, slot, (Technician) provider, rooms[random.nextInt(rooms.length)])
+                            : new Appointment(day, slot, patient, provider);
+                    if (random.nextInt(3) == 0) {
+                        if (store.remove(appt) != null) {
+                            removed.incrementAndGet();
+                        }
+                    } else if (store.book(appt) == SchedulingResult.Status.BOOKED) {
+                        booked.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(booked.get() - removed.get(), store.size());
+        HashSet<String> providerSlots = new HashSet<>();
+        HashSet<String> roomSlots = new HashSet<>();
+        for (Appointment appt : store) {
+            Provider provider = (Provider) appt.getProvider();
+            assertTrue("provider double-booked",
+                    providerSlots.add(provider.getProfile() + " " + appt.getTimeslot().getSlotNumber()));
+            if (appt instanceof Imaging) {
+                assertTrue("room double-booked", roomSlots.add(provider.getLocation() + " "
+                        + ((Imaging) appt).getRoom() + " " + appt.getTimeslot().getSlotNumber()));
+            }
+        }
+        // the availability of providers and rooms agrees with the stored appointments
+        for (Provider provider : providers) {
+            for (int slot = 1; slot <= 3; slot++) {
+                assertEquals(!providerSlots.contains(provider.getProfile() + " " + slot),
+                        store.isProviderFree(provider, day, Timeslot.of(slot)));
+            }
+        }
+        for (Radiology room : rooms) {
+            for (int slot = 1; slot <= 3; slot++) {
+                assertEquals(!roomSlots.contains(Location.BRIDGEWATER + " " + room + " " + slot),
+                        store.isRoomFree(Location.BRIDGEWATER, room, day, Timeslot.of(slot)));
+            }
+        }
+        assertTrue(booked.get() > 0);
+    }
+
+    @Test
+    public void testRemoveLeavesRebookWithOtherProvider() throws Exception {
+        // one patient rebooked at one time with two doctors: the appointments are equal,
+        // so a remove must not take the other doctor's appointment in place of its own
+        AppointmentStore store = newStore();
+        Provider[] providers = {doctor, otherDoctor};
+        Patient patient = patient(1);
+        int threads = 4;
+        int attempts = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        Future<?>[] results = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            Provider provider = providers[t % providers.length];
+            results[t] = pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < attempts; i++) {
+                    Appointment appt = new Appointment(day, Timeslot.of(1), patient, provider);
+                    store.book(appt);
+                    store.remove(appt);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        Appointment left = store.find(day, Timeslot.of(1), patient);
+        for (Provider provider : providers) {
+            assertEquals("availability of " + provider.getProfile(),
+                    left == null || left.getProvider() != provider,
+                    store.isProviderFree(provider, day, Timeslot.of(1)));
+        }
+    }
+
+    @Test
+    public void testTechnicianWithDoctorsProfile() {
+        Technician twin = new Technician(doctor.getProfile(), Location.BRIDGEWATER, 140);
+        List<Provider> providers = new List<>();
+        providers.add(doctor);
+        providers.add(twin);
+        AppointmentStore store = newStore(providers);
+        assertEquals(SchedulingResult.Status.BOOKED,
+                store.book(new Appointment(day, Timeslot.of(1), patient(1), doctor)));
+        assertTrue("the technician keeps its own slots", store.isProviderFree(twin, day, Timeslot.of(1)));
+        assertEquals(SchedulingResult.Status.BOOKED,
+                store.book(imaging(patient(2), Timeslot.of(1), twin, Radiology.XRAY)));
+    }
+
+    @Test
+    public void testDoctorsWithSameProfileAndDifferentNpis() {
+        Doctor twin = new Doctor(doctor.getProfile(), doctor.getLocation(), doctor.getSpecialty(), "99");
+        List<Provider> providers = new List<>();
+        providers.add(doctor);
+        providers.add(twin);
+        AppointmentStore store = newStore(providers);
+        assertEquals(SchedulingResult.Status.BOOKED,
+                store.book(new Appointment(day, Timeslot.of(1), patient(1), doctor)));
+        assertTrue("each doctor keeps its own slots", store.isProviderFree(twin, day, Timeslot.of(1)));
+        assertEquals(SchedulingResult.Status.BOOKED,
+                store.book(new Appointment(day, Timeslot.of(1), patient(2), twin)));
+    }
+}
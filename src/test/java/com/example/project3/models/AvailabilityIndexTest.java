@@ -0,0 +1,81 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AvailabilityIndexTest {
+    private AvailabilityIndex index;
+    private Doctor lim;
+    private Date date;
+
+    @Before
+    public void setUp() {
+        index = new AvailabilityIndex();
+        lim = new Doctor(new Profile("RACHAEL", "LIM", new Date("11/30/1975")),
+                Location.BRIDGEWATER, Specialty.PEDIATRICIAN, "23");
+        date = new Date("11/21/2024");
+    }
+
+    @Test
+    public void testBookAndRelease() {
+        assertTrue(index.isFree(lim, date, Timeslot.of(3)));
+        assertTrue(index.book(lim, date, Timeslot.of(3)));
+        assertFalse("Already booked", index.book(lim, date, Timeslot.of(3)));
+        assertFalse(index.isFree(lim, date, Timeslot.of(3)));
+        assertTrue(index.isFree(lim, date, Timeslot.of(4)));
+        assertTrue("Other days are free", index.isFree(lim, new Date("11/22/2024"), Timeslot.of(3)));
+
+        index.book(lim, date, Timeslot.of(12));
+        assertEquals(0b1000_0000_0100, index.getMask(lim, date));
+
+        assertTrue(index.release(lim, date, Timeslot.of(3)));
+        assertFalse("Already free", index.release(lim, date, Timeslot.of(3)));
+        assertTrue(index.isFree(lim, date, Timeslot.of(3)));
+    }
+
+    @Test
+    public void testProvidersAreFoundByProfile() {
+        index.book(lim, date, Timeslot.of(1));
+        Doctor sameLim = new Doctor(new Profile("rachael", "lim", new Date("11/30/1975")),
+                Location.BRIDGEWATER, Specialty.PEDIATRICIAN, "23");
+        assertFalse(index.isFree(sameLim, date, Timeslot.of(1)));
+        Technician other = new Technician(new Profile("GARY", "JOHNSON", new Date("6/30/1985")),
+                Location.PISCATAWAY, 150);
+        assertTrue(index.isFree(other, date, Timeslot.of(1)));
+        Technician twin = new Technician(lim.getProfile(), Location.BRIDGEWATER, 140);
+        assertTrue("A technician with the doctor's profile has its own slots", index.isFree(twin, date, Timeslot.of(1)));
+    }
+
+    @Test
+    public void testDoctorsWithSameProfileAndDifferentNpis() {
+        Doctor otherLim = new Doctor(lim.getProfile(), Location.BRIDGEWATER, Specialty.PEDIATRICIAN, "24");
+        assertTrue(index.book(lim, date, Timeslot.of(1)));
+        assertTrue("Each doctor has its own slots", index.isFree(otherLim, date, Timeslot.of(1)));
+        assertTrue(index.book(otherLim, date, Timeslot.of(1)));
+        assertTrue(index.release(lim, date, Timeslot.of(1)));
+        assertFalse(index.isFree(otherLim, date, Timeslot.of(1)));
+    }
+
+    @Test
+    public void testManyDays() {
+        DayMasks days = new DayMasks();
+        for (int day = -500; day < 5000; day++) {
+            days.set(day, 1 << (Math.floorMod(day, 12)));
+        }
+        assertEquals(5500, days.size());
+        for (int day = -500; day < 5000; day++) {
+            assertEquals(1 << (Math.floorMod(day, 12)), days.get(day));
+        }
+        assertEquals(0, days.get(5000));
+        days.clear(7, 1 << 7);
+        assertEquals(0, days.get(7));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidTimeslot() {
+        index.isFree(lim, date, new Timeslot(12, 0));
+    }
+}
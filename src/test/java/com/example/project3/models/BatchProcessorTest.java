@@ -0,0 +1,175 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BatchProcessorTest {
+    private SchedulingService service;
+
+    @Before
+    public void setUp() throws IOException {
+        ClinicClock.setDefault(ClinicClock.fixed(new Date("10/15/2024")));
+        service = ClinicFixtures.newService();
+    }
+
+    @After
+    public void restoreClock() {
+        ClinicClock.setDefault(ClinicClock.system());
+    }
+
+    private String[] run(BatchProcessor processor, String... lines) throws IOException {
+        StringWriter out = new StringWriter();
+        processor.process(new StringReader(String.join("\n", lines)), out);
+        return out.toString().split(System.lineSeparator());
+    }
+
+    @Test
+    public void testCommandsMatchHomeTabResults() throws IOException {
+        BatchProcessor processor = new BatchProcessor(service);
+        String[] results = run(processor,
+                "S,10/16/2024,1,John,Doe,12/13/1989,01",
+                "S,10/16/2024,1,John,Doe,12/13/1989,01",
+                "S,10/16/2024,1,Jane,Doe,5/1/1996,01",
+                "",
+                "T,10/16/2024,1,Jane,Doe,5/1/1996,xray",
+                "R,10/16/2024,1,John,Doe,12/13/1989,2",
+                "C,10/16/2024,1,John,Doe,12/13/1989",
+                "C,10/16/2024,2,John,Doe,12/13/1989",
+                "S,10/19/2024,1,John,Doe,12/13/1989,01",
+                "S,10/16/2024,1,Jim,Roe,10/16/2024,01");
+
+        assertEquals(9, results.length);
+        assertTrue(results[0].endsWith(" booked."));
+        assertEquals("John Doe 12/13/1989 has an existing appointment at the same time slot.", results[1]);
+        assertTrue(results[2].endsWith(" is not available at slot 9:00 AM."));
+        assertTrue(results[3].contains("JENNY PATEL"));
+        assertTrue(results[4].startsWith("Reschedule to 10/16/2024 9:30 AM John Doe"));
+        assertEquals("10/16/2024 9:00 AM John Doe 12/13/1989 - appointment does not exist.", results[5]);
+        assertEquals("10/16/2024 9:30 AM John Doe 12/13/1989 - appointment has been canceled.", results[6]);
+        assertEquals("Appointment date: 10/19/2024 is a Saturday or Sunday.", results[7]);
+        assertEquals("Patient dob: 10/16/2024 is today or a date after today.", results[8]);
+
+        assertEquals(9, processor.getCommandCount());
+        assertEquals(4, processor.getSuccessCount());
+        assertEquals(0, processor.getInvalidCount());
+        assertEquals(1, service.getAppointments().size());
+        assertTrue(processor.getCommandsPerSecond() > 0);
+    }
+
+    @Test
+    public void testInvalidLines() throws IOException {
+        BatchProcessor processor = new BatchProcessor(service);
+        String[] results = run(processor,
+                "X,10/16/2024,1,John,Doe,12/13/1989,01",
+                "S,10/16/2024,1,John,Doe,12/13/1989",
+                "S,10/16/2024,13,John,Doe,12/13/1989,01",
+                "S,10/16/2024,1,John,Doe,12/13/1989,99",
+                "T,10/16/2024,1,John,Doe,12/13/1989,mri",
+                "S,ab/16/2024,1,John,Doe,12/13/1989,01",
+                "S,2/30/2025,1,John,Doe,12/13/1989,01");
+
+        assertEquals("Invalid command!", results[0]);
+        assertEquals("Missing data tokens.", results[1]);
+        assertEquals("13 is not a valid time slot.", results[2]);
+        assertEquals("99 - provider doesn't exist.", results[3]);
+        assertEquals("mri - imaging service not provided.", results[4]);
+        assertEquals("ab/16/2024 is not a valid date.", results[5]);
+        assertEquals("Appointment date: 2/30/2025 is not a valid calendar date.", results[6]);
+        assertEquals(6, processor.getInvalidCount());
+        assertEquals(0, processor.getSuccessCount());
+        assertTrue(service.getAppointments().isEmpty());
+    }
+
+    private static String randomCommands(int count, Random random) {
+        String[] npis = {"01", "23", "11", "32", "54", "91", "39", "09", "85", "77", "99"};
+        String[] rooms = {"xray", "ultrasound", "catscan", "mri"};
+        Date today = new Date("10/15/2024");
+        StringBuilder commands = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            Date date = Date.ofEpochDay(today.toEpochDay() - 2 + random.nextInt(12));
+            int patient = random.nextInt(40);
+            String fields = date + "," + (1 + random.nextInt(12)) + ",P" + patient + ",L" + patient
+                    + "," + (1 + patient % 12) + "/1/19" + (50 + patient);
+            switch (random.nextInt(6)) {
+                case 0: commands.append("S,").append(fields).append(',').append(npis[random.nextInt(npis.length)]); break;
+                case 1: case 2: commands.append("T,").append(fields).append(',').append(rooms[random.nextInt(rooms.length)]); break;
+                case 3: commands.append("C,").append(fields); break;
+                case 4: commands.append("R,").append(fields).append(',').append(1 + random.nextInt(12)); break;
+                default: commands.append(random.nextBoolean() ? "" : "X,bad"); break;
+            }
+            commands.append('\n');
+        }
+        return commands.toString();
+    }
+
+    @Test
+    public void testPipelineMatchesSequentialRun() throws IOException {
+        String commands = randomCommands(20_000, new Random(7));
+        BatchProcessor sequential = new BatchProcessor(service);
+        StringWriter expected = new StringWriter();
+        sequential.process(new StringReader(commands), expected);
+
+        for (int workers : new int[] {2, 4, 8}) {
+            SchedulingService pipelinedService = ClinicFixtures.newService();
+            BatchProcessor pipelined = new BatchProcessor(pipelinedService);
+            pipelined.setBatchLines(7); // many small batches, finishing out of order
+            StringWriter actual = new StringWriter();
+            pipelined.process(new StringReader(commands), actual, workers);
+
+            assertEquals(expected.toString(), actual.toString());
+            assertEquals(sequential.getCommandCount(), pipelined.getCommandCount());
+            assertEquals(sequential.getSuccessCount(), pipelined.getSuccessCount());
+            assertEquals(sequential.getInvalidCount(), pipelined.getInvalidCount());
+            assertEquals(service.getAppointments().size(), pipelinedService.getAppointments().size());
+            for (Appointment appt : service.getAppointments()) {
+                Appointment other = pipelinedService.getAppointments().find(appt.getDate(), appt.getTimeslot(), appt.getProfile());
+                assertNotNull(other);
+                assertEquals(appt.getProvider(), other.getProvider()); // same technician rotation
+            }
+        }
+        assertTrue(sequential.getSuccessCount() > 0);
+    }
+
+    @Test
+    public void testPipelineReportsReadFailure() {
+        Reader failing = new Reader() {
+            private int reads;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                if (reads++ > 0) {
+                    throw new IOException("disk gone");
+                }
+                String line = "C,10/16/2024,1,John,Doe,12/13/1989\n";
+                line.getChars(0, line.length(), buffer, offset);
+                return line.length();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        BatchProcessor processor = new BatchProcessor(service);
+        try {
+            processor.process(failing, new StringWriter(), 4);
+            fail("expected an IOException");
+        } catch (IOException e) {
+            assertEquals("disk gone", e.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchLinesMustBePositive() {
+        new BatchProcessor(service).setBatchLines(0);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.Assert.*;
+
+public class ClinicClockTest {
+
+    /**
+     * A clock whose time is moved by the test.
+     */
+    private static class ManualClock extends Clock {
+        private Instant instant;
+
+        ManualClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @Test
+    public void testFixedClock() {
+        ClinicClock clock = ClinicClock.fixed(new Date("8/31/2024"));
+        assertEquals(new Date("8/31/2024").toEpochDay(), clock.today());
+        // Cut to the last day of February, like Calendar.add
+        assertEquals(new Date("2/28/2025").toEpochDay(), clock.sixMonthsFromToday());
+    }
+
+    @Test
+    public void testOffsetClock() {
+        ClinicClock clock = ClinicClock.offset(Duration.ofDays(10));
+        assertEquals(LocalDate.now().plusDays(10).toEpochDay(), clock.today(), 1);
+    }
+
+    @Test
+    public void testDayIsRefreshedAtMidnight() {
+        ManualClock time = new ManualClock(Instant.parse("2024-10-15T23:59:59Z"));
+        ClinicClock clock = new ClinicClock(time);
+        assertEquals(new Date("10/15/2024").toEpochDay(), clock.today());
+        assertEquals(new Date("4/15/2025").toEpochDay(), clock.sixMonthsFromToday());
+
+        time.instant = Instant.parse("2024-10-16T00:00:00Z");
+        assertEquals(new Date("10/16/2024").toEpochDay(), clock.today());
+        assertEquals(new Date("4/16/2025").toEpochDay(), clock.sixMonthsFromToday());
+    }
+
+    @Test
+    public void testDateChecksUseTheDefaultClock() {
+        try {
+            ClinicClock.setDefault(ClinicClock.fixed(new Date("1/10/2030")));
+            assertTrue(new Date("1/10/2030").isToday());
+            assertTrue(new Date("1/9/2030").isPastDate());
+            assertTrue(new Date("1/11/2030").isFutureDate());
+            assertTrue(new Date("7/10/2030").isWithinSixMonths());
+            assertFalse(new Date("7/9/2030").isWithinSixMonths());
+        } finally {
+            ClinicClock.setDefault(ClinicClock.system());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.project3.models;
+
+import com.example.project3.AppointmentStore;
+import com.example.project3.ProviderLoader;
+import com.example.project3.SchedulingService;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Shared setup for the tests and benchmarks that schedule against the clinic's providers.
+ */
+public final class ClinicFixtures {
+    public static final File PROVIDERS_FILE = new File("src/main/resources/providers.txt");
+
+    private ClinicFixtures() {
+    }
+
+    /**
+     * Returns a loader that has loaded providers.txt.
+     */
+    public static ProviderLoader loadProviders() throws IOException {
+        ProviderLoader loader = new ProviderLoader();
+        loader.load(PROVIDERS_FILE);
+        return loader;
+    }
+
+    /**
+     * Returns a new service with the providers of providers.txt.
+     */
+    public static SchedulingService newService() throws IOException {
+        SchedulingService service = new SchedulingService();
+        service.addProviders(loadProviders());
+        return service;
+    }
+
+    /**
+     * Returns a new service with the providers of providers.txt, booking into a store.
+     */
+    public static SchedulingService newService(AppointmentStore store) throws IOException {
+        SchedulingService service = new SchedulingService(store);
+        service.addProviders(loadProviders());
+        return service;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+
+public class ConcurrentAppointmentStoreTest extends AppointmentStoreContract {
+
+    @Override
+    protected AppointmentStore newStore(List<Provider> providers) {
+        return new ConcurrentAppointmentStore(4); // few locks, more sharing
+    }
+}
@@ -1,10 +1,27 @@
 package com.example.project3.models;
 
+import com.example.project3.ClinicClock;
 import com.example.project3.Date;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
+
+import java.time.LocalDate;
+
 import static org.junit.Assert.*;
 public class DateTest {
 
+    // The date checks below were written on this day
+    @Before
+    public void setUp() {
+        ClinicClock.setDefault(ClinicClock.fixed(new Date("10/15/2024")));
+    }
+
+    @After
+    public void tearDown() {
+        ClinicClock.setDefault(ClinicClock.system());
+    }
+
     @Test
     public void testIsValid() {
         // Invalid Case 1: Year before 1900
@@ -65,7 +82,10 @@ public class DateTest {
         assertTrue("Date is past", date.isPastDate());
 
         Date date2 = new Date("10/14/2023");
-        assertFalse("Date is not past", date2.isPastDate());
+        assertTrue("Date a year ago is past", date2.isPastDate());
+
+        Date today = new Date("10/15/2024");
+        assertFalse("Today is not past", today.isPastDate());
     }
 
 
@@ -75,4 +95,80 @@ public class DateTest {
         Date date = new Date(10,19, 2024);
         assertEquals("The date should be equal", dateStr, date);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testToEpochDay() {
+        assertEquals(0, new Date(1, 1, 1970).toEpochDay());
+        assertEquals(-1, new Date("12/31/1969").toEpochDay());
+        assertEquals(11016, new Date("2/29/2000").toEpochDay());
+        assertEquals(20015, new Date("10/19/2024").toEpochDay());
+    }
+
+    @Test
+    public void testOfEpochDayMatchesLocalDate() {
+        for (int epochDay = -30000; epochDay < 60000; epochDay += 7) {
+            LocalDate expected = LocalDate.ofEpochDay(epochDay);
+            Date date = Date.ofEpochDay(epochDay);
+            assertEquals(new Date(expected.getMonthValue(), expected.getDayOfMonth(), expected.getYear()), date);
+            assertEquals(epochDay, date.toEpochDay());
+            assertEquals(expected.getDayOfWeek().getValue() >= 6, date.isWeekend());
+        }
+    }
+
+    @Test
+    public void testCompareToAndToString() {
+        assertTrue(new Date("12/31/2023").compareTo(new Date("1/1/2024")) < 0);
+        assertTrue(new Date("2/1/2024").compareTo(new Date("1/31/2024")) > 0);
+        assertEquals(0, new Date("2024-02-01").compareTo(new Date("2/1/2024")));
+        assertEquals("2/1/2024", new Date("2024-02-01").toString());
+        assertEquals("13/15/2020", new Date(13, 15, 2020).toString());
+    }
+
+    @Test
+    public void testParse() {
+        assertEquals(new Date(2, 29, 2024), Date.parse("2/29/2024"));
+        assertEquals(new Date(2, 29, 2024), Date.parse("2024-02-29"));
+        assertEquals(new Date(2, 29, 2024), Date.parse(" 02 / 29 / 2024 "));
+        assertEquals(new Date(), Date.parse("2024.02.29"));
+        assertEquals(new Date(), Date.parse("2/29"));
+        assertEquals(new Date(13, 40, 2024), Date.parse("13/40/2024"));
+        assertEquals(new Date("10/19/2024"), Date.parse("10/19/2024"));
+    }
+
+    @Test
+    public void testFieldsOutOfRangeAreInvalid() {
+        assertFalse(new Date("1/2/40000").isValid());
+        assertFalse(new Date(1, 2, 32768).isValid());
+        assertFalse(Date.of(1, 2, 40000).isValid());
+        assertFalse(new Date(257, 2, 2024).isValid());
+        assertFalse(new Date(1, -1, 2024).isValid());
+        assertEquals(0, new Date("1/2/40000").getMonth());
+        assertTrue(new Date(1, 2, 32767).isValid());
+    }
+
+    @Test
+    public void testParseLikeSplit() {
+        // String.split drops empty parts at the end only
+        assertEquals(new Date(1, 2, 2024), new Date("1/2/2024/"));
+        assertEquals(new Date(1, 2, 2024), Date.parse("1/2/2024//"));
+        assertEquals(new Date(1, 2, 2024), Date.parse("2024-01-02-"));
+        assertEquals(new Date(), Date.parse("/1/2/2024"));
+        assertEquals(new Date(), Date.parse("1/2/2024/ "));
+        assertEquals(new Date(), Date.parse("1/2/2024/5"));
+        assertEquals(new Date(), Date.parse("///"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseRejectsLetters() {
+        Date.parse("1O/19/2024");
+    }
+
+    @Test
+    public void testValidDatesAreInterned() {
+        assertSame(Date.parse("10/19/2024"), Date.of(10, 19, 2024));
+        assertSame(Date.of(10, 19, 2024), Date.ofEpochDay(new Date("10/19/2024").toEpochDay()));
+        assertNotSame(new Date("10/19/2024"), Date.of(10, 19, 2024));
+        assertEquals(Date.of(2, 30, 2024), Date.of(2, 30, 2024));
+        assertFalse(Date.of(2, 30, 2024).isValid());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class IndexedListTest {
+    private IndexedList<Appointment> appointments;
+    private Appointment appt1, appt2, appt3;
+
+    @Before
+    public void setUp() {
+        appointments = new IndexedList<>();
+        Doctor doctor = new Doctor(new Profile("RACHEL", "LIM", new Date("11/30/1975")),
+                Location.BRIDGEWATER, Specialty.PEDIATRICIAN, "23");
+        Patient john = new Patient(new Profile("John", "Doe", new Date("12/13/1989")), null);
+        Patient jane = new Patient(new Profile("Jane", "Doe", new Date("5/1/1996")), null);
+        appt1 = new Appointment(new Date("11/21/2024"), Timeslot.of(1), john, doctor);
+        appt2 = new Appointment(new Date("11/21/2024"), Timeslot.of(2), john, doctor);
+        appt3 = new Appointment(new Date("11/21/2024"), Timeslot.of(1), jane, doctor);
+    }
+
+    @Test
+    public void testContainsUsesEquality() {
+        appointments.add(appt1);
+        // Same date, timeslot and patient, with the name in another letter case
+        Person person = new Person(new Profile("JOHN", "DOE", new Date("12/13/1989")));
+        Appointment probe = new Appointment(new Date("11/21/2024"), Timeslot.of(1), person);
+
+        assertTrue("Equal appointment should be found", appointments.contains(probe));
+        assertFalse("Different appointment should not be found", appointments.contains(appt2));
+    }
+
+    @Test
+    public void testIndexOfAfterRemoveShift() {
+        appointments.add(appt1);
+        appointments.add(appt2);
+        appointments.add(appt3);
+
+        appointments.remove(appt1);
+        assertEquals(-1, appointments.indexOf(appt1));
+        assertEquals(0, appointments.indexOf(appt2));
+        assertEquals(1, appointments.indexOf(appt3));
+
+        appointments.removeAt(1);
+        assertFalse(appointments.contains(appt3));
+        assertEquals(0, appointments.indexOf(appt2));
+    }
+
+    @Test
+    public void testIndexOfAfterSet() {
+        appointments.add(appt1);
+        appointments.add(appt2);
+
+        appointments.set(0, appt3);
+        assertFalse(appointments.contains(appt1));
+        assertEquals(0, appointments.indexOf(appt3));
+        assertEquals(1, appointments.indexOf(appt2));
+    }
+
+    @Test
+    public void testDuplicates() {
+        appointments.add(appt1);
+        appointments.add(appt2);
+        appointments.add(appt1);
+
+        appointments.removeAt(0);
+        assertEquals("Next occurrence should become the first", 1, appointments.indexOf(appt1));
+        appointments.remove(appt1);
+        assertFalse(appointments.contains(appt1));
+        assertEquals(1, appointments.size());
+    }
+
+    @Test
+    public void testHashCodeConsistentWithEquals() {
+        Profile upper = new Profile("JOHN", "DOE", new Date(12, 13, 1989));
+        Profile lower = new Profile("john", "doe", new Date("12/13/1989"));
+        assertEquals(upper, lower);
+        assertEquals(upper.hashCode(), lower.hashCode());
+        assertEquals(new Timeslot("3"), new Timeslot(10, 0));
+        assertEquals(new Timeslot("3").hashCode(), new Timeslot(10, 0).hashCode());
+    }
+
+    @Test
+    public void testDoctorAndTechnicianWithSameProfile() {
+        Profile profile = new Profile("Gary", "Jones", new Date("3/15/1985"));
+        Doctor doctor = new Doctor(profile, Location.BRIDGEWATER, Specialty.FAMILY, "01");
+        Technician technician = new Technician(profile, Location.EDISON, 125);
+        IndexedList<Provider> providers = new IndexedList<>();
+        providers.add(doctor);
+        assertFalse("Technician.equals(doctor) alone should not match", providers.contains(technician));
+        providers.add(technician);
+        assertEquals(0, providers.indexOf(doctor));
+        assertEquals(1, providers.indexOf(technician));
+
+        providers.removeAt(0);
+        assertFalse(providers.contains(doctor));
+        assertEquals(0, providers.indexOf(technician));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class ListTest {
     private List<Provider> providerList;
@@ -49,4 +50,59 @@ public class ListTest {
         providerList.remove(technician1);
         assertEquals("Size should be 0 after removing one technician", 0, providerList.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGrowPastInitialCapacity() {
+        List<Integer> list = new List<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+        assertEquals("Size should be 1000 after adding 1000 objects", 1000, list.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("Objects should keep their insertion order", Integer.valueOf(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void testAddAll() {
+        List<Provider> others = new List<>(2);
+        others.add(doctor1);
+        others.add(technician1);
+
+        providerList.add(technician1);
+        providerList.addAll(others);
+        assertEquals("Size should be 3 after adding all", 3, providerList.size());
+        assertEquals(technician1, providerList.get(0));
+        assertEquals(doctor1, providerList.get(1));
+        assertEquals(technician1, providerList.get(2));
+    }
+
+    @Test
+    public void testRemoveAt() {
+        providerList.add(doctor1);
+        providerList.add(technician1);
+
+        assertEquals("Removed object should be returned", doctor1, providerList.removeAt(0));
+        assertEquals("Remaining object should shift left", technician1, providerList.get(0));
+        assertEquals("Removed tail object should be returned", technician1, providerList.removeAt(0));
+        assertTrue("List should be empty", providerList.isEmpty());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveAtOutOfBounds() {
+        providerList.add(doctor1);
+        providerList.removeAt(1);
+    }
+
+    @Test
+    public void testEnsureCapacityAndTrimToSize() {
+        providerList.ensureCapacity(100);
+        providerList.add(doctor1);
+        providerList.trimToSize();
+        assertEquals("Size should not change after trimming", 1, providerList.size());
+
+        // the trimmed list must still be able to grow
+        providerList.add(technician1);
+        assertEquals(technician1, providerList.get(1));
+    }
+}
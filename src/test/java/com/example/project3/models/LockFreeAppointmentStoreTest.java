@@ -0,0 +1,48 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LockFreeAppointmentStoreTest extends AppointmentStoreContract {
+
+    @Override
+    protected AppointmentStore newStore(List<Provider> providers) {
+        return new LockFreeAppointmentStore(providers, day, 5);
+    }
+
+    @Test
+    public void testAtomicDayMasks() {
+        AtomicDayMasks masks = new AtomicDayMasks(2, 100, 3);
+        assertTrue(masks.trySet(1, 102, 0b101));
+        assertFalse(masks.trySet(1, 102, 0b100));
+        assertTrue(masks.trySet(1, 102, 0b010));
+        assertEquals(0b111, masks.get(1, 102));
+        assertEquals(0, masks.get(0, 102));
+        assertTrue(masks.clear(1, 102, 0b001));
+        assertFalse(masks.clear(1, 102, 0b001));
+        assertEquals(0b110, masks.get(1, 102));
+        assertTrue(masks.holds(100));
+        assertFalse(masks.holds(103));
+        try {
+            masks.get(0, 99);
+            fail("expected an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // day before the window
+        }
+        try {
+            masks.trySet(2, 100, 1);
+            fail("expected an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // no such resource
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownProvider() {
+        Doctor stranger = new Doctor(new Profile("Rachel", "Lim", new Date("11/30/1975")),
+                Location.PRINCETON, Specialty.PEDIATRICIAN, "23");
+        newStore().book(new Appointment(day, Timeslot.of(1), patient(1), stranger));
+    }
+}
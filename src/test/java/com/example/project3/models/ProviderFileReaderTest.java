@@ -0,0 +1,52 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+public class ProviderFileReaderTest {
+
+    private static ProviderFileReader.Chunk parse(String text) {
+        return new ProviderFileReader(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8))).parse();
+    }
+
+    @Test
+    public void testParsesDoctorsAndTechnicians() {
+        ProviderFileReader.Chunk chunk = parse(
+                "D  ANDREW  PATEL  01/21/1989  BRIDGEWATER  family  01\r\n"
+                + "\tT JENNY PATEL 1991-08-09 PRINCETON 125 extra\r\n"
+                + "   \n");
+        assertEquals(2, chunk.getLineCount());
+        assertEquals(0, chunk.getSkippedLines());
+
+        Doctor doctor = (Doctor) chunk.getProviders().get(0);
+        assertEquals(new Profile("ANDREW", "PATEL", new Date("1/21/1989")), doctor.getProfile());
+        assertEquals(Location.BRIDGEWATER, doctor.getLocation());
+        assertEquals(Specialty.FAMILY, doctor.getSpecialty());
+        assertEquals("01", doctor.getNPI());
+
+        Technician technician = (Technician) chunk.getProviders().get(1);
+        assertEquals(new Profile("JENNY", "PATEL", new Date("8/9/1991")), technician.getProfile());
+        assertEquals(Location.PRINCETON, technician.getLocation());
+        assertEquals(125, technician.rate());
+    }
+
+    @Test
+    public void testBadLinesAreSkipped() {
+        ProviderFileReader.Chunk chunk = parse(String.join("\n",
+                "T  JENNY  PATEL  8/09/1991  bridgewater  125",
+                "T  JENNY  PATEL  8/09  BRIDGEWATER  125",
+                "T  JENNY  PATEL  8/09/1991  BRIDGEWATER  12x",
+                "T  JENNY  PATEL  8/09/1991  BRIDGEWATER  99999999999",
+                "D  ANDREW  PATEL  01/21/1989  BRIDGEWATER  DENTIST  01",
+                "D  ANDREW  PATEL  01/21/1989  BRIDGEWATER  FAMILY",
+                "DT  ANDREW  PATEL  01/21/1989  BRIDGEWATER  FAMILY  01"));
+        assertEquals(7, chunk.getLineCount());
+        assertEquals(7, chunk.getSkippedLines());
+        assertTrue(chunk.getProviders().isEmpty());
+    }
+}
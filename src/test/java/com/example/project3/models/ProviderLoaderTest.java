@@ -0,0 +1,126 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class ProviderLoaderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testLoadProvidersFile() throws IOException {
+        ProviderLoader loader = new ProviderLoader();
+        loader.load(new File("src/main/resources/providers.txt"));
+
+        assertEquals(16, loader.getLineCount());
+        assertEquals(0, loader.getSkippedLines());
+        assertEquals(16, loader.getProviders().size());
+        assertEquals(6, loader.getTechnicians().size());
+
+        // Sorted once by last name, then date of birth
+        List<Provider> providers = loader.getProviders();
+        for (int i = 1; i < providers.size(); i++) {
+            assertTrue(Sort.BY_PROVIDER.compare(providers.get(i - 1), providers.get(i)) <= 0);
+        }
+        // Technicians keep the file order
+        assertEquals("GARY", loader.getTechnicians().get(0).getProfile().getFirstName());
+        assertEquals("JENNY", loader.getTechnicians().get(5).getProfile().getFirstName());
+    }
+
+    @Test
+    public void testDuplicatesAndBadLinesAreSkipped() throws IOException {
+        File file = folder.newFile("providers.txt");
+        Files.writeString(file.toPath(), String.join("\n",
+                "D  ANDREW  PATEL  01/21/1989  BRIDGEWATER  FAMILY  01",
+                "D  ANDREW  PATEL  01/21/1989  BRIDGEWATER  FAMILY  01",
+                "T  JENNY  PATEL  8/09/1991  BRIDGEWATER  125",
+                "",
+                "T  JENNY  PATEL  8/09/1991  BRIDGEWATER  125",
+                "T  JENNY  PATEL  8/09/1991  NOWHERE  125",
+                "X  BAD  LINE"));
+        ProviderLoader loader = new ProviderLoader();
+        loader.load(file);
+
+        assertEquals(6, loader.getLineCount());
+        assertEquals(2, loader.getSkippedLines());
+        assertEquals(2, loader.getProviders().size());
+        assertEquals(1, loader.getTechnicians().size());
+        assertTrue(loader.getLinesPerSecond() > 0);
+    }
+
+    @Test
+    public void testParallelLoadMatchesSequentialLoad() throws IOException {
+        StringBuilder text = new StringBuilder();
+        Random random = new Random(11);
+        String[] locations = {"BRIDGEWATER", "EDISON", "PRINCETON", "PISCATAWAY", "CLARK", "NOWHERE"};
+        for (int i = 0; i < 6000; i++) {
+            int id = random.nextInt(2000); // repeats some providers
+            String location = locations[random.nextInt(locations.length)];
+            if (random.nextBoolean()) {
+                text.append("D  DOC").append(id).append("  LAST").append(id % 97).append("  1/")
+                        .append(1 + id % 28).append("/1980  ").append(location).append("  FAMILY  ").append(id).append('\n');
+            } else {
+                text.append("T  TECH").append(id).append("  LAST").append(id % 89).append("  2/")
+                        .append(1 + id % 28).append("/1985  ").append(location).append("  ").append(100 + id % 50).append('\n');
+            }
+        }
+        File file = folder.newFile("roster.txt");
+        Files.writeString(file.toPath(), text);
+
+        ProviderLoader sequential = new ProviderLoader();
+        sequential.setParallelThreshold(Integer.MAX_VALUE);
+        sequential.load(file);
+        ProviderLoader parallel = new ProviderLoader();
+        parallel.setParallelThreshold(0);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel.load(file, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(6000, parallel.getLineCount());
+        assertEquals(sequential.getSkippedLines(), parallel.getSkippedLines());
+        assertEquals(sequential.getProviders().size(), parallel.getProviders().size());
+        for (int i = 0; i < sequential.getProviders().size(); i++) {
+            assertEquals(sequential.getProviders().get(i).toString(), parallel.getProviders().get(i).toString());
+        }
+        assertEquals(sequential.getTechnicians().size(), parallel.getTechnicians().size());
+        for (int i = 0; i < sequential.getTechnicians().size(); i++) {
+            assertEquals(sequential.getTechnicians().get(i).toString(), parallel.getTechnicians().get(i).toString());
+        }
+    }
+
+    @Test
+    public void testProgressIsReportedUpToTheFileSize() throws IOException {
+        File file = new File("src/main/resources/providers.txt");
+        long[] last = new long[2];
+        ProviderLoader loader = new ProviderLoader();
+        loader.setProgressListener((parsed, total) -> {
+            assertTrue(parsed >= last[0]);
+            last[0] = parsed;
+            last[1] = total;
+        });
+        loader.load(file);
+        assertEquals(file.length(), last[0]);
+        assertEquals(file.length(), last[1]);
+    }
+
+    @Test(expected = CancellationException.class)
+    public void testCancelledLoadStops() throws IOException {
+        ProviderLoader loader = new ProviderLoader();
+        loader.setProgressListener((parsed, total) -> loader.cancel());
+        loader.load(new File("src/main/resources/providers.txt"));
+    }
+}
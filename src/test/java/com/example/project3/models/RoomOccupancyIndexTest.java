@@ -0,0 +1,30 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RoomOccupancyIndexTest {
+
+    @Test
+    public void testRoomsAreBookedPerLocationTypeAndDay() {
+        RoomOccupancyIndex rooms = new RoomOccupancyIndex();
+        Date monday = new Date("11/18/2024");
+        Date tuesday = new Date("11/19/2024");
+
+        assertTrue(rooms.book(Location.EDISON, Radiology.XRAY, monday, Timeslot.of(2)));
+        assertFalse(rooms.book(Location.EDISON, Radiology.XRAY, monday, Timeslot.of(2)));
+        assertFalse(rooms.isFree(Location.EDISON, Radiology.XRAY, monday, Timeslot.of(2)));
+
+        assertTrue("Another day", rooms.isFree(Location.EDISON, Radiology.XRAY, tuesday, Timeslot.of(2)));
+        assertTrue("Another slot", rooms.isFree(Location.EDISON, Radiology.XRAY, monday, Timeslot.of(3)));
+        assertTrue("Another room", rooms.isFree(Location.EDISON, Radiology.CATSCAN, monday, Timeslot.of(2)));
+        assertTrue("Another location", rooms.isFree(Location.CLARK, Radiology.XRAY, monday, Timeslot.of(2)));
+        assertEquals(0b10, rooms.getMask(Location.EDISON, Radiology.XRAY, monday));
+
+        assertTrue(rooms.release(Location.EDISON, Radiology.XRAY, monday, Timeslot.of(2)));
+        assertTrue(rooms.isFree(Location.EDISON, Radiology.XRAY, monday, Timeslot.of(2)));
+        assertFalse(rooms.release(Location.CLARK, Radiology.XRAY, monday, Timeslot.of(2)));
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SchedulingServiceTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    private SchedulingService service;
+    private Provider patel;
+    private final Date apptDate = new Date("10/16/2024");
+    private final Profile john = new Profile("John", "Doe", new Date("12/13/1989"));
+    private final Profile jane = new Profile("Jane", "Doe", new Date("5/1/1996"));
+
+    @Before
+    public void setUp() throws IOException {
+        ClinicClock.setDefault(ClinicClock.fixed(new Date("10/15/2024")));
+        service = ClinicFixtures.newService();
+        for (Provider provider : service.getProviders()) {
+            if (provider instanceof Doctor && provider.getProfile().getLastName().equals("PATEL")) {
+                patel = provider;
+            }
+        }
+    }
+
+    @After
+    public void restoreClock() {
+        ClinicClock.setDefault(ClinicClock.system());
+    }
+
+    @Test
+    public void testProvidersAndRotationLoaded() {
+        assertEquals(16, service.getProviders().size());
+        List<Technician> rotation = service.getTechRotationList();
+        assertEquals(6, rotation.size());
+        // technicians take turns in reverse order of loading
+        assertEquals("JENNY", rotation.get(0).getProfile().getFirstName());
+        assertEquals("GARY", rotation.get(5).getProfile().getFirstName());
+    }
+
+    @Test
+    public void testMergeProvidersLeavesServiceUnchanged() throws IOException {
+        SchedulingService empty = new SchedulingService();
+        ProviderLoader loader = ClinicFixtures.loadProviders();
+        ProviderRoster roster = empty.mergeProviders(loader);
+        assertEquals(16, roster.getProviders().size());
+        assertEquals(6, roster.getTechRotationList().size());
+        assertTrue(empty.getProviders().isEmpty());
+
+        empty.setProviders(roster);
+        assertSame(roster.getProviders(), empty.getProviders());
+        assertEquals("JENNY", empty.getTechRotationList().get(0).getProfile().getFirstName());
+        // merging the same file again adds nothing
+        assertEquals(16, empty.mergeProviders(loader).getProviders().size());
+        assertEquals(6, empty.mergeProviders(loader).getTechRotationList().size());
+    }
+
+    @Test
+    public void testMergeProvidersKeepsSortedOrder() throws IOException {
+        File file = folder.newFile("providers.txt");
+        Files.writeString(file.toPath(), String.join("\n",
+                "D  ANDREW  PATEL  01/21/1989  BRIDGEWATER  FAMILY  01",
+                "D  AMY  ADAMS  02/02/1980  PRINCETON  FAMILY  70",
+                "D  ZOE  PATEL  01/21/1989  EDISON  ALLERGIST  71",
+                "T  YURI  ZWEIG  03/03/1990  CLARK  120"));
+        ProviderLoader loader = new ProviderLoader();
+        loader.load(file);
+
+        List<Provider> expected = new List<>();
+        expected.addAll(service.getProviders());
+        for (Provider provider : loader.getProviders()) {
+            if (!service.getProviders().contains(provider)) {
+                expected.add(provider);
+            }
+        }
+        Sort.sort(expected, Sort.BY_PROVIDER);
+        List<Provider> merged = service.mergeProviders(loader).getProviders();
+        assertEquals(19, merged.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame("The merge should match a stable sort", expected.get(i), merged.get(i));
+        }
+    }
+
+    @Test
+    public void testScheduleOffice() {
+        SchedulingResult result = service.execute(SchedulingCommand.office(apptDate, Timeslot.of(1), john, patel));
+        assertEquals(SchedulingResult.Status.BOOKED, result.getStatus());
+        assertTrue(result.isSuccess());
+        assertEquals(result.getAppointment() + " booked.", result.getMessage());
+        assertEquals(1, service.getAppointments().size());
+        assertEquals(1, service.getAppointmentsByDate().size());
+        assertEquals(1, service.getAppointmentsByPatient().size());
+        assertEquals(1, service.getAppointmentsByLocation().size());
+
+        result = service.execute(SchedulingCommand.office(apptDate, Timeslot.of(1), john, patel));
+        assertEquals(SchedulingResult.Status.DUPLICATE, result.getStatus());
+        assertFalse(result.isSuccess());
+        assertNull(result.getAppointment());
+
+        result = service.execute(SchedulingCommand.office(apptDate, Timeslot.of(1), jane, patel));
+        assertEquals(SchedulingResult.Status.PROVIDER_UNAVAILABLE, result.getStatus());
+        assertEquals(patel + " is not available at slot 9:00 AM.", result.getMessage());
+        assertEquals(1, service.getAppointments().size());
+    }
+
+    @Test
+    public void testInvalidDates() {
+        assertEquals(SchedulingResult.Status.INVALID_DATE, service.execute(
+                SchedulingCommand.office(new Date("10/15/2024"), Timeslot.of(1), john, patel)).getStatus());
+        assertEquals(SchedulingResult.Status.INVALID_DATE, service.execute(
+                SchedulingCommand.office(new Date("10/19/2024"), Timeslot.of(1), john, patel)).getStatus());
+        assertEquals(SchedulingResult.Status.INVALID_DATE, service.execute(
+                SchedulingCommand.office(new Date("6/2/2025"), Timeslot.of(1), john, patel)).getStatus());
+        Profile unborn = new Profile("John", "Doe", new Date("10/16/2024"));
+        SchedulingResult result = service.execute(SchedulingCommand.office(apptDate, Timeslot.of(1), unborn, patel));
+        assertEquals(SchedulingResult.Status.INVALID_DOB, result.getStatus());
+        assertEquals("Patient dob: 10/16/2024 is today or a date after today.", result.getMessage());
+        assertTrue(service.getAppointments().isEmpty());
+
+        assertNull(service.checkAppointmentDate(apptDate));
+        assertEquals("Appointment date: 10/19/2024 is a Saturday or Sunday.",
+                service.checkAppointmentDate(new Date("10/19/2024")));
+        assertNull(service.checkDob(john.getDOB()));
+    }
+
+    @Test
+    public void testImagingUsesRotationAndRooms() {
+        SchedulingResult first = service.execute(SchedulingCommand.imaging(apptDate, Timeslot.of(1), john, Radiology.XRAY));
+        assertEquals(SchedulingResult.Status.BOOKED, first.getStatus());
+        assertEquals("JENNY", first.getAppointment().getProvider().getProfile().getFirstName());
+
+        // the Bridgewater X-ray room is taken, so the next technician must work elsewhere
+        SchedulingResult second = service.execute(SchedulingCommand.imaging(apptDate, Timeslot.of(1), jane, Radiology.XRAY));
+        assertEquals("FRANK", second.getAppointment().getProvider().getProfile().getFirstName());
+
+        Profile third = new Profile("Jim", "Roe", new Date("1/1/2000"));
+        SchedulingResult result = service.execute(SchedulingCommand.imaging(apptDate, Timeslot.of(1), third, Radiology.XRAY));
+        assertEquals(SchedulingResult.Status.NO_TECHNICIAN, result.getStatus());
+    }
+
+    @Test
+    public void testRescheduleImagingChecksRoom() {
+        Profile jim = new Profile("Jim", "Roe", new Date("1/1/2000"));
+        SchedulingResult first = service.execute(SchedulingCommand.imaging(apptDate, Timeslot.of(1), john, Radiology.XRAY));
+        SchedulingResult second = service.execute(SchedulingCommand.imaging(apptDate, Timeslot.of(2), jane, Radiology.XRAY));
+        assertEquals("JENNY", first.getAppointment().getProvider().getProfile().getFirstName());
+        assertEquals("MONICA", second.getAppointment().getProvider().getProfile().getFirstName());
+
+        // Jenny is free at 9:30, but the Bridgewater X-ray room is not
+        SchedulingResult result = service.execute(SchedulingCommand.reschedule(apptDate, Timeslot.of(1), john, Timeslot.of(2)));
+        assertEquals(SchedulingResult.Status.ROOM_UNAVAILABLE, result.getStatus());
+        assertNotNull(service.getAppointments().find(apptDate, Timeslot.of(1), new Person(john)));
+
+        // canceling the room's appointment frees it for exactly one new booking
+        service.execute(SchedulingCommand.cancel(apptDate, Timeslot.of(2), jane));
+        assertTrue(service.execute(SchedulingCommand.imaging(apptDate, Timeslot.of(2), jim, Radiology.XRAY)).isSuccess());
+        int inRoom = 0;
+        for (Appointment appt : service.getAppointments()) {
+            if (appt.getTimeslot().equals(Timeslot.of(2)) && ((Imaging) appt).getRoom() == Radiology.XRAY
+                    && ((Provider) appt.getProvider()).getLocation() == Location.BRIDGEWATER) {
+                inRoom++;
+            }
+        }
+        assertTrue(inRoom <= 1);
+        assertEquals(SchedulingResult.Status.RESCHEDULED,
+                service.execute(SchedulingCommand.reschedule(apptDate, Timeslot.of(1), john, Timeslot.of(3))).getStatus());
+    }
+
+    @Test
+    public void testServicesSharingAStore() throws IOException {
+        AppointmentStore store = new ConcurrentAppointmentStore();
+        SchedulingService front = ClinicFixtures.newService(store);
+        SchedulingService back = ClinicFixtures.newService(store);
+        assertTrue(front.execute(SchedulingCommand.office(apptDate, Timeslot.of(1), john, patel)).isSuccess());
+        assertEquals(SchedulingResult.Status.PROVIDER_UNAVAILABLE,
+                back.execute(SchedulingCommand.office(apptDate, Timeslot.of(1), jane, patel)).getStatus());
+        assertEquals(SchedulingResult.Status.DUPLICATE,
+                back.execute(SchedulingCommand.imaging(apptDate, Timeslot.of(1), john, Radiology.XRAY)).getStatus());
+
+        // the Bridgewater X-ray room booked through one service is taken for the other
+        SchedulingResult first = front.execute(SchedulingCommand.imaging(apptDate, Timeslot.of(2), john, Radiology.XRAY));
+        assertEquals(Location.BRIDGEWATER, ((Provider) first.getAppointment().getProvider()).getLocation());
+        SchedulingResult second = back.execute(SchedulingCommand.imaging(apptDate, Timeslot.of(2), jane, Radiology.XRAY));
+        assertTrue(second.isSuccess());
+        assertNotEquals(Location.BRIDGEWATER, ((Provider) second.getAppointment().getProvider()).getLocation());
+
+        assertEquals(3, store.size());
+        assertEquals(2, front.getAppointmentsByDate().size());
+        assertEquals(1, back.getAppointmentsByDate().size());
+    }
+
+    @Test
+    public void testConcurrentServicesNeverDoubleBook() throws Exception {
+        AppointmentStore store = new ConcurrentAppointmentStore(4);
+        Date[] days = {apptDate, new Date("10/17/2024"), new Date("10/18/2024")};
+        int threads = 4;
+        int commands = 5_000;
+        SchedulingService[] services = new SchedulingService[threads];
+        for (int t = 0; t < threads; t++) {
+            services[t] = ClinicFixtures.newService(store);
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        Future<?>[] results = new Future<?>[threads];
+        int[] booked = new int[threads];
+        int[] canceled = new int[threads];
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            SchedulingService front = services[t];
+            List<Provider> providers = front.getProviders();
+            results[t] = pool.submit(() -> {
+                Random random = new Random(thread);
+                start.await();
+                for (int i = 0; i < commands; i++) {
+                    Date day = days[random.nextInt(days.length)];
+                    Timeslot slot = Timeslot.of(1 + random.nextInt(12));
+                    Profile patient = new Profile("P" + random.nextInt(100), "Doe", new Date("1/1/1990"));
+                    Provider provider = providers.get(random.nextInt(providers.size()));
+                    SchedulingCommand command;
+                    if (random.nextInt(4) == 0) {
+                        command = SchedulingCommand.cancel(day, slot, patient);
+                    } else if (provider instanceof Technician) {
+                        command = SchedulingCommand.imaging(day, slot, patient, Radiology.values()[random.nextInt(3)]);
+                    } else {
+                        command = SchedulingCommand.office(day, slot, patient, provider);
+                    }
+                    SchedulingResult.Status status = front.execute(command).getStatus();
+                    if (status == SchedulingResult.Status.BOOKED) {
+                        booked[thread]++;
+                    } else if (status == SchedulingResult.Status.CANCELED) {
+                        canceled[thread]++;
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        int expected = 0;
+        for (int t = 0; t < threads; t++) {
+            expected += booked[t] - canceled[t];
+        }
+        assertEquals(expected, store.size());
+        HashSet<String> providerSlots = new HashSet<>();
+        HashSet<String> roomSlots = new HashSet<>();
+        for (Appointment appt : store) {
+            Provider provider = (Provider) appt.getProvider();
+            String time = appt.getDate() + " " + appt.getTimeslot();
+            assertTrue("provider double-booked", providerSlots.add(provider + " " + time));
+            if (appt instanceof Imaging) {
+                assertTrue("room double-booked",
+                        roomSlots.add(provider.getLocation() + " " + ((Imaging) appt).getRoom() + " " + time));
+            }
+        }
+        assertTrue(expected > 0);
+    }
+
+    @Test
+    public void testRescheduleAndCancel() {
+        service.execute(SchedulingCommand.office(apptDate, Timeslot.of(1), john, patel));
+
+        SchedulingResult result = service.execute(SchedulingCommand.reschedule(apptDate, Timeslot.of(2), john, Timeslot.of(3)));
+        assertEquals(SchedulingResult.Status.NOT_FOUND, result.getStatus());
+
+        result = service.execute(SchedulingCommand.reschedule(apptDate, Timeslot.of(1), john, Timeslot.of(3)));
+        assertEquals(SchedulingResult.Status.RESCHEDULED, result.getStatus());
+        assertEquals(Timeslot.of(3), result.getAppointment().getTimeslot());
+        assertEquals(patel, result.getAppointment().getProvider());
+        // the old slot of the provider is free again
+        assertTrue(service.execute(SchedulingCommand.office(apptDate, Timeslot.of(1), jane, patel)).isSuccess());
+
+        result = service.execute(SchedulingCommand.cancel(apptDate, Timeslot.of(1), john));
+        assertEquals(SchedulingResult.Status.NOT_FOUND, result.getStatus());
+        assertEquals("10/16/2024 9:00 AM John Doe 12/13/1989 - appointment does not exist.", result.getMessage());
+
+        result = service.execute(SchedulingCommand.cancel(apptDate, Timeslot.of(3), john));
+        assertEquals(SchedulingResult.Status.CANCELED, result.getStatus());
+        assertEquals(1, service.getAppointments().size());
+        assertEquals(1, service.getAppointmentsByDate().size());
+    }
+}
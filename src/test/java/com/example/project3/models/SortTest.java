@@ -0,0 +1,164 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SortTest {
+    private Doctor lim, patel, kaur;
+    private Technician fox;
+    private Patient john, jane;
+
+    @Before
+    public void setUp() {
+        lim = new Doctor(new Profile("RACHAEL", "LIM", new Date("11/30/1975")),
+                Location.BRIDGEWATER, Specialty.PEDIATRICIAN, "23");
+        patel = new Doctor(new Profile("ANDREW", "PATEL", new Date("1/21/1989")),
+                Location.BRIDGEWATER, Specialty.FAMILY, "01");
+        kaur = new Doctor(new Profile("TOM", "KAUR", new Date("11/5/1972")),
+                Location.PRINCETON, Specialty.ALLERGIST, "54");
+        fox = new Technician(new Profile("MONICA", "FOX", new Date("10/10/1995")),
+                Location.EDISON, 130);
+        john = new Patient(new Profile("John", "Doe", new Date("12/13/1989")), null);
+        jane = new Patient(new Profile("Jane", "Doe", new Date("5/1/1996")), null);
+    }
+
+    private Appointment appt(String date, int slot, Patient patient, Provider provider) {
+        return new Appointment(new Date(date), Timeslot.of(slot), patient, provider);
+    }
+
+    @Test
+    public void testSortByDate() {
+        List<Appointment> list = new List<>();
+        Appointment a = appt("11/22/2024", 1, john, lim);
+        Appointment b = appt("11/21/2024", 2, john, lim);
+        Appointment c = appt("11/21/2024", 1, jane, patel);
+        Appointment d = appt("11/21/2024", 1, john, kaur);
+        list.add(a);
+        list.add(b);
+        list.add(c);
+        list.add(d);
+
+        Sort.appointment(list, 'D');
+        assertSame(d, list.get(0)); // KAUR before PATEL at the same date and slot
+        assertSame(c, list.get(1));
+        assertSame(b, list.get(2));
+        assertSame(a, list.get(3));
+    }
+
+    @Test
+    public void testSortByPatient() {
+        List<Appointment> list = new List<>();
+        Appointment a = appt("11/21/2024", 2, john, lim);
+        Appointment b = appt("11/21/2024", 1, john, lim);
+        Appointment c = appt("11/25/2024", 1, jane, lim);
+        list.add(a);
+        list.add(b);
+        list.add(c);
+
+        Sort.appointment(list, 'P');
+        assertSame(c, list.get(0));
+        assertSame(b, list.get(1));
+        assertSame(a, list.get(2));
+    }
+
+    @Test
+    public void testSortByLocationIsStable() {
+        List<Appointment> list = new List<>();
+        Appointment a = appt("11/21/2024", 1, john, lim);   // Somerset
+        Appointment b = appt("11/21/2024", 1, jane, fox);   // Middlesex
+        Appointment c = appt("11/21/2024", 1, jane, patel); // Somerset, ties with a
+        Appointment d = appt("11/20/2024", 1, john, kaur);  // Mercer
+        list.add(a);
+        list.add(b);
+        list.add(c);
+        list.add(d);
+
+        Sort.appointment(list, 'L');
+        assertSame(d, list.get(0));
+        assertSame(b, list.get(1));
+        assertSame(a, list.get(2));
+        assertSame(c, list.get(3));
+    }
+
+    @Test
+    public void testSortProviders() {
+        List<Provider> list = new List<>();
+        list.add(patel);
+        list.add(fox);
+        list.add(lim);
+        list.add(kaur);
+
+        Sort.provider(list);
+        assertSame(fox, list.get(0));
+        assertSame(kaur, list.get(1));
+        assertSame(lim, list.get(2));
+        assertSame(patel, list.get(3));
+    }
+
+    @Test
+    public void testLargeRosterSortMatchesSequential() {
+        Random random = new Random(13);
+        Location[] locations = Location.values();
+        List<Provider> sequential = new List<>();
+        for (int i = 0; i < 20000; i++) {
+            Profile profile = new Profile("F" + i, "L" + random.nextInt(500),
+                    new Date(random.nextInt(12) + 1, random.nextInt(28) + 1, 1950 + random.nextInt(40)));
+            sequential.add(new Technician(profile, locations[random.nextInt(locations.length)], 100 + i % 50));
+        }
+        List<Provider> roster = new List<>();
+        roster.addAll(sequential);
+        Sort.provider(roster);
+        Sort.sort(sequential, Sort.BY_PROVIDER);
+        for (int i = 0; i < sequential.size(); i++) {
+            assertSame("A large roster should keep the sequential stable order", sequential.get(i), roster.get(i));
+        }
+    }
+
+    @Test
+    public void testLargeSortMatchesComparator() {
+        Provider[] providers = {lim, patel, kaur, fox};
+        Patient[] patients = {john, jane};
+        Random random = new Random(42);
+        List<Appointment> list = new IndexedList<>();
+        for (int i = 0; i < 5000; i++) {
+            String date = (random.nextInt(12) + 1) + "/" + (random.nextInt(28) + 1) + "/2025";
+            list.add(appt(date, random.nextInt(12) + 1, patients[random.nextInt(2)],
+                    providers[random.nextInt(providers.length)]));
+        }
+        for (char key : new char[]{'D', 'P', 'L'}) {
+            Sort.appointment(list, key);
+            for (int i = 1; i < list.size(); i++) {
+                assertTrue("List should be sorted by " + key,
+                        Sort.comparator(key).compare(list.get(i - 1), list.get(i)) <= 0);
+            }
+            assertEquals("Index should follow the sort", 0, list.indexOf(list.get(0)));
+        }
+    }
+
+    @Test
+    public void testParallelSortMatchesSequential() {
+        Provider[] providers = {lim, patel, kaur, fox};
+        Patient[] patients = {john, jane};
+        Random random = new Random(7);
+        List<Appointment> sequential = new List<>();
+        for (int i = 0; i < 20000; i++) {
+            String date = (random.nextInt(12) + 1) + "/" + (random.nextInt(28) + 1) + "/2025";
+            sequential.add(appt(date, random.nextInt(12) + 1, patients[random.nextInt(2)],
+                    providers[random.nextInt(providers.length)]));
+        }
+        for (char key : new char[]{'D', 'P', 'L'}) {
+            List<Appointment> parallel = new List<>();
+            parallel.addAll(sequential);
+            Sort.parallelSort(parallel, Sort.comparator(key));
+            Sort.sort(sequential, Sort.comparator(key));
+            for (int i = 0; i < sequential.size(); i++) {
+                assertSame("Parallel sort should keep the same stable order", sequential.get(i), parallel.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+import static org.junit.Assert.*;
+
+public class SortedViewTest {
+    private SortedView<Appointment> byLocation;
+    private Appointment a, b, c;
+
+    @Before
+    public void setUp() {
+        byLocation = new SortedView<>(Sort.BY_LOCATION);
+        Doctor lim = new Doctor(new Profile("RACHAEL", "LIM", new Date("11/30/1975")),
+                Location.BRIDGEWATER, Specialty.PEDIATRICIAN, "23");
+        Doctor kaur = new Doctor(new Profile("TOM", "KAUR", new Date("11/5/1972")),
+                Location.PRINCETON, Specialty.ALLERGIST, "54");
+        Patient john = new Patient(new Profile("John", "Doe", new Date("12/13/1989")), null);
+        Patient jane = new Patient(new Profile("Jane", "Doe", new Date("5/1/1996")), null);
+        a = new Appointment(new Date("11/21/2024"), Timeslot.of(1), john, lim);  // Somerset
+        b = new Appointment(new Date("11/21/2024"), Timeslot.of(1), jane, lim);  // Somerset, ties with a
+        c = new Appointment(new Date("11/22/2024"), Timeslot.of(1), john, kaur); // Mercer
+    }
+
+    @Test
+    public void testIterationIsSortedAndStable() {
+        byLocation.add(a);
+        byLocation.add(c);
+        byLocation.add(b);
+
+        Iterator<Appointment> iterator = byLocation.iterator();
+        assertSame(c, iterator.next());
+        assertSame(a, iterator.next());
+        assertSame(b, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testRemoveByEqualObject() {
+        byLocation.add(a);
+        byLocation.add(b);
+        assertFalse("Equal object should not be added twice", byLocation.add(a));
+
+        Person person = new Person(new Profile("JOHN", "DOE", new Date("12/13/1989")));
+        assertTrue(byLocation.remove(new Appointment(new Date("11/21/2024"), Timeslot.of(1), person)));
+        assertEquals(1, byLocation.size());
+        assertSame(b, byLocation.iterator().next());
+        assertFalse(byLocation.contains(a));
+    }
+
+    @Test
+    public void testPage() {
+        byLocation.add(a);
+        byLocation.add(b);
+        byLocation.add(c);
+
+        List<Appointment> page = byLocation.page(1, 5);
+        assertEquals(2, page.size());
+        assertSame(a, page.get(0));
+        assertSame(b, page.get(1));
+        assertTrue(byLocation.page(3, 5).isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.project3.models;
+
+import com.example.project3.*;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TechnicianRotationTest {
+
+    private static List<Technician> technicians(int count, Random random) {
+        List<Technician> list = new List<>();
+        Location[] locations = Location.values();
+        for (int i = 0; i < count; i++) {
+            list.add(new Technician(new Profile("TECH" + i, "LAST", new Date("1/1/1980")),
+                    locations[random.nextInt(locations.length)], 100));
+        }
+        return list;
+    }
+
+    @Test
+    public void testRoundRobinSkipsBusyTechnicians() {
+        List<Technician> list = technicians(3, new Random(1));
+        TechnicianRotation rotation = new TechnicianRotation(list);
+        RoomOccupancyIndex rooms = new RoomOccupancyIndex();
+        Date date = new Date("11/18/2024");
+        Date other = new Date("11/19/2024");
+
+        assertSame(list.get(0), rotation.next(date, Timeslot.of(1), Radiology.XRAY, new RoomOccupancyIndex()));
+        rotation.book(list.get(1), date, Timeslot.of(2));
+        assertSame(list.get(2), rotation.next(date, Timeslot.of(2), Radiology.XRAY, rooms));
+        assertSame("Wraps around", list.get(0), rotation.next(other, Timeslot.of(2), Radiology.XRAY, rooms));
+        assertEquals(1, rotation.getRotationIndex());
+        rotation.release(list.get(1), date, Timeslot.of(2));
+        assertSame(list.get(1), rotation.next(date, Timeslot.of(2), Radiology.XRAY, rooms));
+    }
+
+    @Test
+    public void testMatchesLinearRotation() {
+        Random random = new Random(19);
+        List<Technician> list = technicians(40, random);
+        TechnicianRotation rotation = new TechnicianRotation(list);
+        RoomOccupancyIndex rooms = new RoomOccupancyIndex();
+        AvailabilityIndex busy = new AvailabilityIndex();
+        int rotationIndex = 0;
+
+        for (int request = 0; request < 3000; request++) {
+            Date date = Date.ofEpochDay(20000 + random.nextInt(3));
+            Timeslot slot = Timeslot.of(1 + random.nextInt(12));
+            Radiology room = Radiology.values()[random.nextInt(Radiology.values().length)];
+
+            // The loop that findAvailableTech ran over the rotation list
+            Technician expected = null;
+            for (int i = 0; i < list.size(); i++) {
+                int index = (rotationIndex + i) % list.size();
+                Technician tech = list.get(index);
+                if (busy.isFree(tech, date, slot) && rooms.isFree(tech.getLocation(), room, date, slot)) {
+                    expected = tech;
+                    rotationIndex = (index + 1) % list.size();
+                    break;
+                }
+            }
+
+            Technician actual = rotation.next(date, slot, room, rooms);
+            assertSame(expected, actual);
+            if (actual != null) {
+                if (random.nextInt(4) == 0) {
+                    continue; // assigned but not booked, like a request that is dropped
+                }
+                busy.book(actual, date, slot);
+                rooms.book(actual.getLocation(), room, date, slot);
+                rotation.book(actual, date, slot);
+                if (random.nextInt(3) == 0) {
+                    busy.release(actual, date, slot);
+                    rooms.release(actual.getLocation(), room, date, slot);
+                    rotation.release(actual, date, slot);
+                }
+            }
+        }
+    }
+}
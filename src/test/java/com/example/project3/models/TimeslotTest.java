@@ -0,0 +1,40 @@
+package com.example.project3.models;
+
+import com.example.project3.Timeslot;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TimeslotTest {
+
+    @Test
+    public void testOfReturnsSharedInstances() {
+        for (int slot = 1; slot <= 12; slot++) {
+            Timeslot timeslot = Timeslot.of(slot);
+            assertSame(timeslot, Timeslot.of(Integer.toString(slot)));
+            assertEquals(slot, timeslot.getSlotNumber());
+            assertEquals(new Timeslot(Integer.toString(slot)), timeslot);
+            assertEquals(new Timeslot(Integer.toString(slot)).hashCode(), timeslot.hashCode());
+        }
+        assertSame(Timeslot.of(2), Timeslot.of("13")); // invalid slots default to 9:30 AM
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfRejectsInvalidSlot() {
+        Timeslot.of(0);
+    }
+
+    @Test
+    public void testOrderAndFormat() {
+        Timeslot[] slots = Timeslot.values();
+        for (int i = 1; i < slots.length; i++) {
+            assertTrue(slots[i - 1].compareTo(slots[i]) < 0);
+        }
+        assertEquals("9:00 AM", Timeslot.of(1).toTimeFormat());
+        assertEquals("11:30 AM", Timeslot.of(6).toTimeFormat());
+        assertEquals("2:00 PM", Timeslot.of(7).toTimeFormat());
+        assertEquals("4:30 PM", Timeslot.of(12).toTimeFormat());
+        assertEquals(-1, new Timeslot(12, 0).getSlotNumber());
+        assertEquals("12:00 PM", new Timeslot(12, 0).toTimeFormat());
+    }
+}